@@ -0,0 +1,60 @@
+package com.makersworld.civic_insights_auth.client;
+
+import java.security.Principal;
+import java.util.Set;
+
+/**
+ * 검증된 액세스 토큰의 사용자 (인증 서비스의 JWT 인증과 동일하게 principal 이름은 이메일)
+ *
+ * @param email 사용자 이메일 (토큰 sub, 서비스 토큰이면 클라이언트 ID)
+ * @param role 사용자 역할 (토큰 role 클레임, 없으면 null)
+ * @param scopes 부여된 스코프 (서비스 토큰의 공백 구분 scope 클레임, 없으면 빈 집합)
+ * @param expiresAtMillis 토큰 만료 시각 (밀리초)
+ */
+public record CivicPrincipal(String email, String role, Set<String> scopes, long expiresAtMillis) implements Principal {
+
+    private static final String SCOPE_PREFIX = "SCOPE_";
+
+    public CivicPrincipal {
+        scopes = scopes == null ? Set.of() : Set.copyOf(scopes);
+    }
+
+    public CivicPrincipal(String email, String role, long expiresAtMillis) {
+        this(email, role, Set.of(), expiresAtMillis);
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * 역할 일치 여부 ("ADMIN"과 "ROLE_ADMIN" 모두 허용)
+     */
+    public boolean hasRole(String expected) {
+        if (role == null || expected == null) {
+            return false;
+        }
+        return role.equals(expected) || ("ROLE_" + role).equals(expected);
+    }
+
+    /**
+     * 스코프 보유 여부 ("profiles:read"와 "SCOPE_profiles:read" 모두 허용)
+     */
+    public boolean hasScope(String expected) {
+        if (expected == null) {
+            return false;
+        }
+        return scopes.contains(expected.startsWith(SCOPE_PREFIX) ? expected.substring(SCOPE_PREFIX.length()) : expected);
+    }
+
+    /**
+     * 인증 서비스의 권한 이름 규칙(ROLE_*, SCOPE_*)에 따른 일치 여부 (서블릿 isUserInRole용)
+     */
+    public boolean hasAuthority(String authority) {
+        if (authority != null && authority.startsWith(SCOPE_PREFIX)) {
+            return hasScope(authority);
+        }
+        return hasRole(authority);
+    }
+}
@@ -0,0 +1,157 @@
+package com.makersworld.civic_insights_auth.client;
+
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 인증 서비스의 /.well-known/jwks.json 공개키 캐시
+ *
+ * 백그라운드에서 주기적으로 갱신하며, If-None-Match(ETag)로 요청하여 키가 바뀌지 않았으면 304만 받습니다.
+ * 토큰의 kid로 키를 찾고, kid가 없는 토큰은 키가 하나뿐일 때 그 키를 사용합니다.
+ * 알 수 없는 kid가 나오면(키 교체 직후) 최소 간격을 두고 즉시 다시 가져옵니다.
+ */
+public final class JwksKeyCache implements AutoCloseable {
+
+    private static final Logger log = Logger.getLogger(JwksKeyCache.class.getName());
+    private static final Duration MIN_FORCED_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    private final URI jwksUri;
+    private final HttpClient httpClient;
+    private final Duration refreshInterval;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean forcedRefreshPending = new AtomicBoolean();
+
+    private volatile Map<String, PublicKey> keysById = Map.of();
+    private volatile PublicKey singleKey;
+    private volatile String etag;
+    private volatile long lastForcedRefreshNanos;
+
+    JwksKeyCache(URI jwksUri, HttpClient httpClient, Duration refreshInterval) {
+        this.jwksUri = jwksUri;
+        this.httpClient = httpClient;
+        this.refreshInterval = refreshInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "civic-jwks-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 첫 키 목록을 동기적으로 가져온 뒤 주기적 갱신을 시작합니다.
+     */
+    void start() {
+        refresh();
+        long periodMillis = refreshInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * kid에 해당하는 공개키를 반환합니다.
+     * @param keyId 토큰 헤더의 kid (없으면 null)
+     * @return 공개키, 없으면 null
+     */
+    PublicKey find(String keyId) {
+        if (keyId == null) {
+            return singleKey;
+        }
+        PublicKey key = keysById.get(keyId);
+        if (key == null) {
+            requestRefresh();
+        }
+        return key;
+    }
+
+    /**
+     * JWKS를 다시 가져옵니다. 변경이 없으면(304) 기존 키를 유지합니다.
+     */
+    void refresh() {
+        HttpRequest.Builder request = HttpRequest.newBuilder(jwksUri)
+                .timeout(Duration.ofSeconds(5))
+                .header("Accept", "application/json")
+                .GET();
+        String currentEtag = etag;
+        if (currentEtag != null) {
+            request.header("If-None-Match", currentEtag);
+        }
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new TokenVerificationException("Failed to fetch JWKS from " + jwksUri, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TokenVerificationException("Interrupted while fetching JWKS", e);
+        }
+
+        if (response.statusCode() == 304) {
+            return;
+        }
+        if (response.statusCode() != 200) {
+            throw new TokenVerificationException("JWKS request failed: HTTP " + response.statusCode());
+        }
+
+        JwkSet jwkSet = Jwks.setParser().build().parse(response.body());
+        Map<String, PublicKey> keys = new HashMap<>();
+        PublicKey only = null;
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            Key key = jwk.toKey();
+            if (key instanceof PublicKey publicKey) {
+                keys.put(jwk.getId() != null ? jwk.getId() : "", publicKey);
+                only = publicKey;
+            }
+        }
+        keysById = Map.copyOf(keys);
+        singleKey = keys.size() == 1 ? only : null;
+        etag = response.headers().firstValue("ETag").orElse(null);
+    }
+
+    // 알 수 없는 kid: 최소 간격 이내의 반복 요청은 무시하고 백그라운드에서 한 번만 갱신
+    private void requestRefresh() {
+        long now = System.nanoTime();
+        if (now - lastForcedRefreshNanos < MIN_FORCED_REFRESH_INTERVAL.toNanos()
+                || !forcedRefreshPending.compareAndSet(false, true)) {
+            return;
+        }
+        lastForcedRefreshNanos = now;
+        scheduler.execute(() -> {
+            try {
+                refreshQuietly();
+            } finally {
+                forcedRefreshPending.set(false);
+            }
+        });
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // 갱신 실패 시 기존 키로 계속 검증
+            log.log(Level.WARNING, "JWKS refresh failed; keeping cached keys", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
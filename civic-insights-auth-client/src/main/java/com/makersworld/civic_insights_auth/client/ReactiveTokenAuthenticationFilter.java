@@ -0,0 +1,44 @@
+package com.makersworld.civic_insights_auth.client;
+
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux 기반 서비스용 Bearer 토큰 인증 필터
+ *
+ * 유효한 토큰이면 exchange.getPrincipal()이 CivicPrincipal(이메일/역할/스코프)을 반환하고,
+ * 같은 값을 exchange 속성(PRINCIPAL_ATTRIBUTE)으로도 제공합니다.
+ * 캐시되지 않은 토큰의 서명 검증(CPU)과 JWKS 재조회가 이벤트 루프를 막지 않도록 boundedElastic에서 수행합니다.
+ */
+public class ReactiveTokenAuthenticationFilter implements WebFilter {
+
+    public static final String PRINCIPAL_ATTRIBUTE = TokenAuthenticationFilter.PRINCIPAL_ATTRIBUTE;
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenVerifier verifier;
+
+    public ReactiveTokenAuthenticationFilter(TokenVerifier verifier) {
+        this.verifier = verifier;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String header = exchange.getRequest().getHeaders().getFirst("Authorization");
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return chain.filter(exchange);
+        }
+        String token = header.substring(BEARER_PREFIX.length());
+        return Mono.fromCallable(() -> verifier.verify(token))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(principal -> {
+                    exchange.getAttributes().put(PRINCIPAL_ATTRIBUTE, principal);
+                    return exchange.mutate().principal(Mono.just(principal)).build();
+                })
+                // 유효하지 않은 토큰은 인증 없이 진행
+                .onErrorResume(TokenVerificationException.class, e -> Mono.just(exchange))
+                .flatMap(chain::filter);
+    }
+}
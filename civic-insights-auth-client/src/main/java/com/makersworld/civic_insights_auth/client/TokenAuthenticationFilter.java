@@ -0,0 +1,81 @@
+package com.makersworld.civic_insights_auth.client;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.IOException;
+import java.security.Principal;
+
+/**
+ * 서블릿 기반 서비스용 Bearer 토큰 인증 필터
+ *
+ * 유효한 토큰이면 요청의 getUserPrincipal()/isUserInRole()이 토큰의 이메일/역할을 반환하고
+ * (isUserInRole("SCOPE_x")는 서비스 토큰의 스코프를 확인),
+ * CivicPrincipal을 요청 속성(PRINCIPAL_ATTRIBUTE)으로도 제공합니다.
+ * 토큰이 없거나 유효하지 않으면 인증 없이 진행합니다. (접근 거부는 서비스의 인가 단계에서 처리)
+ */
+public class TokenAuthenticationFilter implements Filter {
+
+    public static final String PRINCIPAL_ATTRIBUTE = CivicPrincipal.class.getName();
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenVerifier verifier;
+
+    public TokenAuthenticationFilter(TokenVerifier verifier) {
+        this.verifier = verifier;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (request instanceof HttpServletRequest httpRequest) {
+            String header = httpRequest.getHeader("Authorization");
+            if (header != null && header.startsWith(BEARER_PREFIX)) {
+                try {
+                    CivicPrincipal principal = verifier.verify(header.substring(BEARER_PREFIX.length()));
+                    httpRequest.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
+                    chain.doFilter(new AuthenticatedRequest(httpRequest, principal), response);
+                    return;
+                } catch (TokenVerificationException e) {
+                    // 유효하지 않은 토큰은 인증 없이 진행
+                }
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static final class AuthenticatedRequest extends HttpServletRequestWrapper {
+
+        private final CivicPrincipal principal;
+
+        AuthenticatedRequest(HttpServletRequest request, CivicPrincipal principal) {
+            super(request);
+            this.principal = principal;
+        }
+
+        @Override
+        public Principal getUserPrincipal() {
+            return principal;
+        }
+
+        @Override
+        public String getRemoteUser() {
+            return principal.getName();
+        }
+
+        @Override
+        public boolean isUserInRole(String role) {
+            return principal.hasAuthority(role);
+        }
+
+        @Override
+        public String getAuthType() {
+            return "Bearer";
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.makersworld.civic_insights_auth.client;
+
+/**
+ * 토큰 서명/만료/형식 검증 실패
+ */
+public class TokenVerificationException extends RuntimeException {
+
+    public TokenVerificationException(String message) {
+        super(message);
+    }
+
+    public TokenVerificationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,170 @@
+package com.makersworld.civic_insights_auth.client;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Civic Insights 인증 서비스가 발급한 액세스 토큰(RS256)을 로컬에서 검증하는 검증기
+ *
+ * 공개키는 JwksKeyCache가 관리하고, 파서는 한 번 만들어 재사용합니다.
+ * 같은 토큰은 만료 전까지 검증 결과를 캐시하여(최대 개수 제한, LRU) 반복 서명 검증을 피합니다.
+ * 요청마다 인증 서비스를 호출하지 않습니다.
+ *
+ * <pre>
+ * TokenVerifier verifier = TokenVerifier.builder()
+ *         .jwksUri(URI.create("http://auth:8001/.well-known/jwks.json"))
+ *         .build();
+ * CivicPrincipal principal = verifier.verify(token);
+ * </pre>
+ */
+public final class TokenVerifier implements AutoCloseable {
+
+    private final JwksKeyCache keyCache;
+    private final JwtParser parser;
+    private final int cacheSize;
+    private final Map<String, CivicPrincipal> verified;
+
+    private TokenVerifier(JwksKeyCache keyCache, Duration clockSkew, int cacheSize) {
+        this.keyCache = keyCache;
+        this.cacheSize = cacheSize;
+        this.verified = new LinkedHashMap<>(Math.min(cacheSize, 1024), 0.75f, true);
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keyCache.find(header.getKeyId());
+                    }
+                })
+                .clockSkewSeconds(clockSkew.toSeconds())
+                .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 액세스 토큰을 검증하고 사용자 정보를 반환합니다.
+     * @param token Bearer 토큰 값
+     * @return 검증된 사용자
+     * @throws TokenVerificationException 서명/만료/형식 검증 실패 시
+     */
+    public CivicPrincipal verify(String token) {
+        long now = System.currentTimeMillis();
+        CivicPrincipal cached;
+        synchronized (verified) {
+            cached = verified.get(token);
+        }
+        if (cached != null && cached.expiresAtMillis() > now) {
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (RuntimeException e) {
+            throw new TokenVerificationException("Invalid access token", e);
+        }
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            throw new TokenVerificationException("Access token is missing sub or exp");
+        }
+
+        CivicPrincipal principal = new CivicPrincipal(claims.getSubject(), claims.get("role", String.class),
+                scopes(claims.get("scope", String.class)), claims.getExpiration().getTime());
+        synchronized (verified) {
+            verified.put(token, principal);
+            if (verified.size() > cacheSize) {
+                verified.remove(verified.keySet().iterator().next());
+            }
+        }
+        return principal;
+    }
+
+    // 인증 서비스의 서비스 토큰은 부여 스코프를 공백으로 구분한 하나의 scope 클레임으로 담음
+    private static Set<String> scopes(String scope) {
+        if (scope == null || scope.isBlank()) {
+            return Set.of();
+        }
+        return Set.copyOf(Arrays.asList(scope.trim().split("\\s+")));
+    }
+
+    @Override
+    public void close() {
+        keyCache.close();
+    }
+
+    public static final class Builder {
+
+        private URI jwksUri;
+        private HttpClient httpClient;
+        private Duration refreshInterval = Duration.ofMinutes(5);
+        private Duration clockSkew = Duration.ofSeconds(30);
+        private int cacheSize = 10_000;
+
+        private Builder() {
+        }
+
+        /**
+         * 인증 서비스의 JWKS 주소 (필수)
+         */
+        public Builder jwksUri(URI jwksUri) {
+            this.jwksUri = jwksUri;
+            return this;
+        }
+
+        public Builder httpClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        /**
+         * JWKS 백그라운드 갱신 주기 (기본 5분)
+         */
+        public Builder refreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+            return this;
+        }
+
+        /**
+         * 만료 검증 시 허용할 시계 오차 (기본 30초)
+         */
+        public Builder clockSkew(Duration clockSkew) {
+            this.clockSkew = clockSkew;
+            return this;
+        }
+
+        /**
+         * 검증 결과 캐시 최대 토큰 수 (기본 10,000, 0이면 캐시하지 않음)
+         */
+        public Builder cacheSize(int cacheSize) {
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        /**
+         * 검증기를 만들고 JWKS를 처음 한 번 동기적으로 가져옵니다.
+         */
+        public TokenVerifier build() {
+            if (jwksUri == null) {
+                throw new IllegalStateException("jwksUri is required");
+            }
+            HttpClient client = httpClient != null ? httpClient
+                    : HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            JwksKeyCache keyCache = new JwksKeyCache(jwksUri, client, refreshInterval);
+            keyCache.start();
+            return new TokenVerifier(keyCache, clockSkew, cacheSize);
+        }
+    }
+}
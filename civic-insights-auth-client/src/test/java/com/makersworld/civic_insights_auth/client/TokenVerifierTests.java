@@ -0,0 +1,257 @@
+package com.makersworld.civic_insights_auth.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenVerifierTests {
+
+	private static final String ETAG = "\"jwks-v1\"";
+
+	private final KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+	private final AtomicInteger fullResponses = new AtomicInteger();
+	private final AtomicInteger notModifiedResponses = new AtomicInteger();
+	private HttpServer server;
+	private URI jwksUri;
+
+	@BeforeEach
+	void startJwksServer() throws IOException {
+		byte[] body = jwksJson((RSAPublicKey) keyPair.getPublic()).getBytes(StandardCharsets.UTF_8);
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/.well-known/jwks.json", exchange -> {
+			if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+				notModifiedResponses.incrementAndGet();
+				exchange.sendResponseHeaders(304, -1);
+				exchange.close();
+				return;
+			}
+			fullResponses.incrementAndGet();
+			exchange.getResponseHeaders().set("ETag", ETAG);
+			exchange.getResponseHeaders().set("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+		jwksUri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/.well-known/jwks.json");
+	}
+
+	@AfterEach
+	void stopJwksServer() {
+		server.stop(0);
+	}
+
+	@Test
+	void verifiesAccessTokenAndExposesEmailAndRole() {
+		try (TokenVerifier verifier = TokenVerifier.builder().jwksUri(jwksUri).build()) {
+			CivicPrincipal principal = verifier.verify(accessToken("user@example.com", "ADMIN", 60_000L));
+
+			assertThat(principal.getName()).isEqualTo("user@example.com");
+			assertThat(principal.role()).isEqualTo("ADMIN");
+			assertThat(principal.hasRole("ROLE_ADMIN")).isTrue();
+		}
+	}
+
+	@Test
+	void rejectsExpiredAndForeignTokens() {
+		try (TokenVerifier verifier = TokenVerifier.builder().jwksUri(jwksUri).clockSkew(Duration.ZERO).build()) {
+			String expired = accessToken("user@example.com", "USER", -60_000L);
+			String foreign = Jwts.builder()
+					.subject("user@example.com")
+					.expiration(new Date(System.currentTimeMillis() + 60_000L))
+					.signWith(Jwts.SIG.RS256.keyPair().build().getPrivate())
+					.compact();
+
+			assertThatThrownBy(() -> verifier.verify(expired)).isInstanceOf(TokenVerificationException.class);
+			assertThatThrownBy(() -> verifier.verify(foreign)).isInstanceOf(TokenVerificationException.class);
+		}
+	}
+
+	@Test
+	void exposesScopesOfServiceTokens() {
+		try (TokenVerifier verifier = TokenVerifier.builder().jwksUri(jwksUri).build()) {
+			CivicPrincipal principal = verifier.verify(serviceToken("reporting-service", "profiles:read  reports:write"));
+
+			assertThat(principal.role()).isEqualTo("SERVICE");
+			assertThat(principal.scopes()).containsExactlyInAnyOrder("profiles:read", "reports:write");
+			assertThat(principal.hasScope("profiles:read")).isTrue();
+			assertThat(principal.hasScope("SCOPE_reports:write")).isTrue();
+			assertThat(principal.hasScope("profiles:write")).isFalse();
+			assertThat(verifier.verify(accessToken("user@example.com", "USER", 60_000L)).scopes()).isEmpty();
+		}
+	}
+
+	@Test
+	void verifiedTokenCacheEvictsLeastRecentlyUsed() {
+		try (TokenVerifier verifier = TokenVerifier.builder().jwksUri(jwksUri).cacheSize(2).build()) {
+			String first = accessToken("first@example.com", "USER", 60_000L);
+			String second = accessToken("second@example.com", "USER", 60_000L);
+			String third = accessToken("third@example.com", "USER", 60_000L);
+
+			// 캐시 적중이면 같은 인스턴스, 다시 검증하면 새 인스턴스가 반환됨
+			CivicPrincipal firstPrincipal = verifier.verify(first);
+			CivicPrincipal secondPrincipal = verifier.verify(second);
+			assertThat(verifier.verify(first)).isSameAs(firstPrincipal);
+
+			verifier.verify(third);
+
+			assertThat(verifier.verify(first)).isSameAs(firstPrincipal);
+			assertThat(verifier.verify(second)).isNotSameAs(secondPrincipal).isEqualTo(secondPrincipal);
+		}
+	}
+
+	@Test
+	void servletFilterExposesPrincipalRolesAndScopes() throws IOException, ServletException {
+		try (TokenVerifier verifier = TokenVerifier.builder().jwksUri(jwksUri).build()) {
+			TokenAuthenticationFilter filter = new TokenAuthenticationFilter(verifier);
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reports");
+			request.addHeader("Authorization", "Bearer " + serviceToken("reporting-service", "profiles:read"));
+			MockFilterChain chain = new MockFilterChain();
+
+			filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+			HttpServletRequest authenticated = (HttpServletRequest) chain.getRequest();
+			assertThat(authenticated.getUserPrincipal()).isInstanceOf(CivicPrincipal.class);
+			assertThat(authenticated.getRemoteUser()).isEqualTo("reporting-service");
+			assertThat(authenticated.isUserInRole("ROLE_SERVICE")).isTrue();
+			assertThat(authenticated.isUserInRole("SCOPE_profiles:read")).isTrue();
+			assertThat(authenticated.isUserInRole("SCOPE_reports:write")).isFalse();
+			assertThat(authenticated.isUserInRole("profiles:read")).isFalse();
+			assertThat(authenticated.getAttribute(TokenAuthenticationFilter.PRINCIPAL_ATTRIBUTE))
+					.isSameAs(authenticated.getUserPrincipal());
+		}
+	}
+
+	@Test
+	void servletFilterPassesInvalidTokensThroughUnauthenticated() throws IOException, ServletException {
+		try (TokenVerifier verifier = TokenVerifier.builder().jwksUri(jwksUri).build()) {
+			TokenAuthenticationFilter filter = new TokenAuthenticationFilter(verifier);
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reports");
+			request.addHeader("Authorization", "Bearer not-a-token");
+			MockFilterChain chain = new MockFilterChain();
+
+			filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+			assertThat(chain.getRequest()).isSameAs(request);
+			assertThat(request.getUserPrincipal()).isNull();
+			assertThat(request.getAttribute(TokenAuthenticationFilter.PRINCIPAL_ATTRIBUTE)).isNull();
+		}
+	}
+
+	@Test
+	void reactiveFilterExposesPrincipalAndSkipsInvalidTokens() {
+		try (TokenVerifier verifier = TokenVerifier.builder().jwksUri(jwksUri).build()) {
+			ReactiveTokenAuthenticationFilter filter = new ReactiveTokenAuthenticationFilter(verifier);
+			AtomicReference<ServerWebExchange> passed = new AtomicReference<>();
+
+			filter.filter(exchange("Bearer " + serviceToken("reporting-service", "profiles:read")), exchange -> {
+				passed.set(exchange);
+				return Mono.empty();
+			}).block(Duration.ofSeconds(5));
+
+			CivicPrincipal principal = passed.get().<CivicPrincipal>getPrincipal().block(Duration.ofSeconds(5));
+			assertThat(principal.getName()).isEqualTo("reporting-service");
+			assertThat(principal.hasScope("SCOPE_profiles:read")).isTrue();
+			assertThat(passed.get().<CivicPrincipal>getAttribute(ReactiveTokenAuthenticationFilter.PRINCIPAL_ATTRIBUTE))
+					.isEqualTo(principal);
+
+			filter.filter(exchange("Bearer not-a-token"), exchange -> {
+				passed.set(exchange);
+				return Mono.empty();
+			}).block(Duration.ofSeconds(5));
+
+			assertThat(passed.get().getPrincipal().blockOptional(Duration.ofSeconds(5))).isEmpty();
+			assertThat(passed.get().getAttributes()).doesNotContainKey(ReactiveTokenAuthenticationFilter.PRINCIPAL_ATTRIBUTE);
+		}
+	}
+
+	@Test
+	void refreshUsesEtagAndKeepsKeysWhenNotModified() {
+		try (JwksKeyCache cache = new JwksKeyCache(jwksUri, HttpClient.newHttpClient(), Duration.ofMinutes(5))) {
+			cache.start();
+			cache.refresh();
+
+			assertThat(fullResponses.get()).isEqualTo(1);
+			assertThat(notModifiedResponses.get()).isEqualTo(1);
+			assertThat(cache.find(null)).isEqualTo(keyPair.getPublic());
+			assertThat(cache.find("civic-insights-auth-key")).isEqualTo(keyPair.getPublic());
+		}
+	}
+
+	private String accessToken(String email, String role, long expiresInMillis) {
+		long now = System.currentTimeMillis();
+		return Jwts.builder()
+				.claims(Map.of("role", role))
+				.subject(email)
+				.issuedAt(new Date(now))
+				.expiration(new Date(now + expiresInMillis))
+				.signWith(keyPair.getPrivate())
+				.compact();
+	}
+
+	// 인증 서비스 client_credentials 토큰과 같은 형태 (role=SERVICE, 공백 구분 scope)
+	private String serviceToken(String clientId, String scope) {
+		Map<String, Object> claims = new HashMap<>();
+		claims.put("role", "SERVICE");
+		claims.put("scope", scope);
+		return Jwts.builder()
+				.claims(claims)
+				.subject(clientId)
+				.expiration(new Date(System.currentTimeMillis() + 60_000L))
+				.signWith(keyPair.getPrivate())
+				.compact();
+	}
+
+	private static MockServerWebExchange exchange(String authorization) {
+		return MockServerWebExchange.from(MockServerHttpRequest.get("/reports").header("Authorization", authorization));
+	}
+
+	// 인증 서비스 JwkController와 같은 형태의 JWK Set
+	private static String jwksJson(RSAPublicKey key) {
+		return "{\"keys\":[{\"kty\":\"RSA\",\"kid\":\"civic-insights-auth-key\","
+				+ "\"n\":\"" + base64Url(key.getModulus()) + "\","
+				+ "\"e\":\"" + base64Url(key.getPublicExponent()) + "\"}]}";
+	}
+
+	private static String base64Url(BigInteger value) {
+		byte[] bytes = value.toByteArray();
+		if (bytes.length > 1 && bytes[0] == 0) {
+			bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+}
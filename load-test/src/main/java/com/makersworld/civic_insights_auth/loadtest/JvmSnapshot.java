@@ -0,0 +1,52 @@
+package com.makersworld.civic_insights_auth.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시나리오 전후 JVM 상태 스냅샷: GC 횟수/시간과 서버(Tomcat 워커) 스레드의 누적 할당량
+ *
+ * 서비스와 부하 생성기가 같은 JVM에서 실행되므로, 할당량은 서버 스레드(http-nio-*)만 합산하여
+ * 부하 생성기의 할당을 제외합니다. GC는 프로세스 전체 값입니다.
+ */
+record JvmSnapshot(long gcCount, long gcTimeMillis, Map<Long, Long> serverThreadAllocations) {
+
+    private static final String SERVER_THREAD_PREFIX = "http-nio-";
+
+    static JvmSnapshot take() {
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+            time += Math.max(0, gc.getCollectionTime());
+        }
+
+        Map<Long, Long> allocations = new HashMap<>();
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            long[] ids = threads.getAllThreadIds();
+            ThreadInfo[] infos = threads.getThreadInfo(ids);
+            long[] allocated = threads.getThreadAllocatedBytes(ids);
+            for (int i = 0; i < ids.length; i++) {
+                if (infos[i] != null && infos[i].getThreadName().startsWith(SERVER_THREAD_PREFIX) && allocated[i] >= 0) {
+                    allocations.put(ids[i], allocated[i]);
+                }
+            }
+        }
+        return new JvmSnapshot(count, time, allocations);
+    }
+
+    /**
+     * 이전 스냅샷 이후 서버 스레드가 할당한 바이트 수 (도중에 생성된 스레드는 0부터 계산)
+     */
+    long serverAllocatedSince(JvmSnapshot before) {
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : serverThreadAllocations.entrySet()) {
+            total += entry.getValue() - before.serverThreadAllocations.getOrDefault(entry.getKey(), 0L);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,121 @@
+package com.makersworld.civic_insights_auth.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 시나리오를 CLOSED(고정 동시 사용자) 또는 OPEN(고정 도착률) 모델로 실행합니다.
+ *
+ * OPEN 모델은 지연을 예정된 시작 시각부터 측정하므로, 서버가 느려져 요청이 밀리는 시간도
+ * 지연에 포함됩니다. (coordinated omission 보정)
+ */
+final class LoadRunner {
+
+    private final ServiceUnderTest service;
+    private final TokenPopulation population;
+    private final HttpClient client;
+    private final LoadTestOptions options;
+
+    LoadRunner(ServiceUnderTest service, TokenPopulation population, HttpClient client, LoadTestOptions options) {
+        this.service = service;
+        this.population = population;
+        this.client = client;
+        this.options = options;
+    }
+
+    ScenarioResult run(Scenario scenario) throws InterruptedException {
+        // 워밍업 결과는 버림 (JIT, 커넥션 풀, 캐시 예열)
+        execute(scenario, options.warmup());
+
+        JvmSnapshot before = JvmSnapshot.take();
+        long started = System.nanoTime();
+        Measurement measurement = execute(scenario, options.duration());
+        long elapsed = System.nanoTime() - started;
+        JvmSnapshot after = JvmSnapshot.take();
+
+        return ScenarioResult.of(scenario, options, measurement, elapsed, before, after);
+    }
+
+    private Measurement execute(Scenario scenario, Duration duration) throws InterruptedException {
+        Measurement measurement = new Measurement();
+        if (duration.isZero()) {
+            return measurement;
+        }
+        if (options.mode() == LoadTestOptions.Mode.OPEN) {
+            runOpen(scenario, duration, measurement);
+        } else {
+            runClosed(scenario, duration, measurement);
+        }
+        return measurement;
+    }
+
+    // 동시 사용자 수만큼의 스레드가 응답을 받는 즉시 다음 요청을 보냄
+    private void runClosed(Scenario scenario, Duration duration, Measurement measurement) throws InterruptedException {
+        ExecutorService users = Executors.newFixedThreadPool(options.concurrency());
+        long deadline = System.nanoTime() + duration.toNanos();
+        for (int i = 0; i < options.concurrency(); i++) {
+            users.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = scenario.next(service, population);
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        measurement.complete(start, response.statusCode());
+                    } catch (IOException e) {
+                        measurement.fail(start);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            });
+        }
+        users.shutdown();
+        users.awaitTermination(duration.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+    }
+
+    // 응답과 무관하게 일정한 간격으로 요청을 보냄
+    private void runOpen(Scenario scenario, Duration duration, Measurement measurement) throws InterruptedException {
+        long interval = 1_000_000_000L / options.rate();
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                measurement.drop();
+                continue;
+            }
+            client.sendAsync(scenario.next(service, population), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        if (error != null) {
+                            measurement.fail(intended);
+                        } else {
+                            measurement.complete(intended, response.statusCode());
+                        }
+                    });
+        }
+
+        // 미완료 요청이 모두 끝날 때까지 대기
+        if (inFlight.tryAcquire(options.maxInFlight(), 60, TimeUnit.SECONDS)) {
+            inFlight.release(options.maxInFlight());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.makersworld.civic_insights_auth.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 오프라인 부하 테스트 진입점
+ *
+ * 로컬 DB(scripts/faststart/local-db.sh)와 가짜 Google 프로바이더로 서비스를 기동하고,
+ * 로그인으로 토큰 모집단을 만든 뒤 시나리오(refresh, profile-get, profile-put, jwks)를 차례로 실행합니다.
+ *
+ * <pre>
+ * ./gradlew :load-test:run --args="--mode=closed --concurrency=32 --duration=30s"
+ * ./gradlew :load-test:run --args="--mode=open --rate=800 --baseline=load-test/build/results/open-20250101-000000.json"
+ * </pre>
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        String[] springArgs = Arrays.stream(args).filter(arg -> arg.startsWith("--spring.")).toArray(String[]::new);
+
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(Math.max(8, options.concurrency()));
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clientExecutor)
+                .build();
+
+        try (ServiceUnderTest service = ServiceUnderTest.start(springArgs)) {
+            TokenPopulation population = TokenPopulation.signIn(service, client, options.users());
+            System.out.printf("Signed in %d users; mode=%s warmup=%ds duration=%ds%n", population.size(),
+                    options.mode(), options.warmup().toSeconds(), options.duration().toSeconds());
+
+            LoadRunner runner = new LoadRunner(service, population, client, options);
+            List<ScenarioResult> results = new ArrayList<>();
+            for (Scenario scenario : options.scenarios()) {
+                ScenarioResult result = runner.run(scenario);
+                results.add(result);
+                System.out.println(result.summaryLine());
+            }
+
+            ResultWriter writer = new ResultWriter();
+            Path file = writer.write(options, population.size(), results);
+            System.out.println("Results written to " + file);
+            if (options.baseline() != null) {
+                writer.compare(options.baseline(), results);
+            }
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+}
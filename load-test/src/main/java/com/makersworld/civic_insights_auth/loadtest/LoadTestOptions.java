@@ -0,0 +1,95 @@
+package com.makersworld.civic_insights_auth.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 부하 테스트 실행 옵션 (--key=value 형식 인자)
+ *
+ * @param mode 부하 모델: CLOSED(고정 동시 사용자) 또는 OPEN(고정 도착률)
+ * @param scenarios 실행할 시나리오 목록 (순서대로 실행)
+ * @param users 토큰 모집단 사용자 수
+ * @param concurrency CLOSED 모델의 동시 사용자 수
+ * @param rate OPEN 모델의 초당 요청 도착률
+ * @param maxInFlight OPEN 모델에서 허용하는 최대 미완료 요청 수 (초과분은 dropped로 집계)
+ * @param warmup 시나리오별 워밍업 시간 (결과에서 제외)
+ * @param duration 시나리오별 측정 시간
+ * @param outputDir 결과 JSON 저장 디렉터리
+ * @param baseline 비교할 이전 결과 JSON (없으면 null)
+ */
+public record LoadTestOptions(
+        Mode mode,
+        List<Scenario> scenarios,
+        int users,
+        int concurrency,
+        int rate,
+        int maxInFlight,
+        Duration warmup,
+        Duration duration,
+        Path outputDir,
+        Path baseline) {
+
+    public enum Mode {
+        CLOSED, OPEN
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Mode mode = Mode.CLOSED;
+        List<Scenario> scenarios = List.of(Scenario.values());
+        int users = 200;
+        int concurrency = 32;
+        int rate = 500;
+        int maxInFlight = 2000;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(30);
+        Path outputDir = Path.of("load-test", "build", "results");
+        Path baseline = null;
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                continue; // spring.* 등 서비스로 전달되는 인자는 무시
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (key) {
+                case "mode" -> mode = Mode.valueOf(value.toUpperCase(Locale.ROOT));
+                case "scenarios" -> {
+                    List<Scenario> selected = new ArrayList<>();
+                    for (String name : value.split(",")) {
+                        selected.add(Scenario.fromName(name.trim()));
+                    }
+                    scenarios = List.copyOf(selected);
+                }
+                case "users" -> users = Integer.parseInt(value);
+                case "concurrency" -> concurrency = Integer.parseInt(value);
+                case "rate" -> rate = Integer.parseInt(value);
+                case "max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "warmup" -> warmup = parseDuration(value);
+                case "duration" -> duration = parseDuration(value);
+                case "out" -> outputDir = Path.of(value);
+                case "baseline" -> baseline = Path.of(value);
+                default -> { }
+            }
+        }
+        return new LoadTestOptions(mode, scenarios, users, concurrency, rate, maxInFlight,
+                warmup, duration, outputDir, baseline);
+    }
+
+    // 10s, 2m, 500ms 형식
+    private static Duration parseDuration(String value) {
+        String v = value.trim().toLowerCase(Locale.ROOT);
+        if (v.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        }
+        if (v.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        }
+        if (v.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(v));
+    }
+}
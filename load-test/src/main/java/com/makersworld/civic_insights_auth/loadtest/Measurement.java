@@ -0,0 +1,71 @@
+package com.makersworld.civic_insights_auth.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 시나리오 실행 동안의 지연(나노초 HdrHistogram)과 상태 코드/오류 집계 (스레드 안전)
+ */
+final class Measurement {
+
+    private final Recorder latencies = new Recorder(3);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    /**
+     * 응답을 받은 요청을 기록합니다. (4xx/5xx는 오류로 집계)
+     * @param startNanos 요청 시작 시각 (OPEN 모델에서는 예정된 시작 시각)
+     */
+    void complete(long startNanos, int status) {
+        latencies.recordValue(Math.max(0, System.nanoTime() - startNanos));
+        requests.increment();
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        if (status >= 400) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * 연결 오류 등으로 응답을 받지 못한 요청을 기록합니다. (상태 코드 0)
+     */
+    void fail(long startNanos) {
+        complete(startNanos, 0);
+        errors.increment();
+    }
+
+    /**
+     * OPEN 모델에서 미완료 요청 상한으로 보내지 못한 요청을 기록합니다.
+     */
+    void drop() {
+        dropped.increment();
+    }
+
+    Histogram histogram() {
+        return latencies.getIntervalHistogram();
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    Map<Integer, Long> statusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
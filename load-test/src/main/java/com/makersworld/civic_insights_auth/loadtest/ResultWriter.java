@@ -0,0 +1,100 @@
+package com.makersworld.civic_insights_auth.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실행 결과를 JSON으로 저장하고, 이전 실행 결과(기준선)와 비교합니다.
+ */
+final class ResultWriter {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    Path write(LoadTestOptions options, int populationSize, List<ScenarioResult> results) throws IOException {
+        Instant now = Instant.now();
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("timestamp", now.toString());
+        run.put("mode", options.mode().name().toLowerCase());
+        run.put("users", populationSize);
+        run.put("concurrency", options.concurrency());
+        run.put("rate", options.rate());
+        run.put("warmupSeconds", options.warmup().toSeconds());
+        run.put("durationSeconds", options.duration().toSeconds());
+        run.put("javaVersion", Runtime.version().toString());
+        run.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+        for (ScenarioResult result : results) {
+            Map<String, Object> scenario = new LinkedHashMap<>();
+            scenario.put("name", result.scenario());
+            scenario.put("requests", result.requests());
+            scenario.put("errors", result.errors());
+            scenario.put("errorRate", result.errorRate());
+            scenario.put("dropped", result.dropped());
+            scenario.put("throughputPerSecond", result.throughputPerSecond());
+            scenario.put("latencyMillis", result.latencyMillis());
+            scenario.put("statusCounts", result.statusCounts());
+            scenario.put("gcCount", result.gcCount());
+            scenario.put("gcTimeMillis", result.gcTimeMillis());
+            scenario.put("serverAllocatedBytes", result.serverAllocatedBytes());
+            scenario.put("serverAllocatedBytesPerRequest", result.serverAllocatedBytesPerRequest());
+            scenarios.add(scenario);
+        }
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("run", run);
+        document.put("scenarios", scenarios);
+
+        Files.createDirectories(options.outputDir());
+        Path file = options.outputDir().resolve(
+                options.mode().name().toLowerCase() + "-" + FILE_TIMESTAMP.format(now) + ".json");
+        mapper.writeValue(file.toFile(), document);
+        return file;
+    }
+
+    /**
+     * 기준선 결과 파일과 시나리오별 처리량/p99/할당량 변화율을 출력합니다.
+     */
+    void compare(Path baseline, List<ScenarioResult> results) throws IOException {
+        JsonNode previous = mapper.readTree(baseline.toFile());
+        Map<String, JsonNode> byName = new LinkedHashMap<>();
+        for (JsonNode scenario : previous.path("scenarios")) {
+            byName.put(scenario.path("name").asText(), scenario);
+        }
+
+        System.out.println();
+        System.out.println("Compared with " + baseline);
+        for (ScenarioResult result : results) {
+            JsonNode base = byName.get(result.scenario());
+            if (base == null) {
+                continue;
+            }
+            System.out.printf("%-12s throughput %+6.1f%%  p99 %+6.1f%%  alloc/req %+6.1f%%%n",
+                    result.scenario(),
+                    change(base.path("throughputPerSecond").asDouble(), result.throughputPerSecond()),
+                    change(base.path("latencyMillis").path("p99").asDouble(), result.latencyMillis().get("p99")),
+                    change(base.path("serverAllocatedBytesPerRequest").asDouble(),
+                            result.serverAllocatedBytesPerRequest()));
+        }
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0.0 : (after - before) / before * 100.0;
+    }
+}
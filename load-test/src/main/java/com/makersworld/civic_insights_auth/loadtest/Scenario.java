@@ -0,0 +1,77 @@
+package com.makersworld.civic_insights_auth.loadtest;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 시나리오: 게이트웨이와 동일하게 X-Gateway-Internal 헤더를 붙여 요청을 만듭니다.
+ */
+public enum Scenario {
+
+    REFRESH("refresh") {
+        @Override
+        HttpRequest.Builder request(ServiceUnderTest service, TokenPopulation.Member member) {
+            String form = "refreshToken=" + URLEncoder.encode(member.refreshToken(), StandardCharsets.UTF_8);
+            return HttpRequest.newBuilder(service.uri("/api/v1/auth/refresh"))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(form));
+        }
+    },
+    PROFILE_GET("profile-get") {
+        @Override
+        HttpRequest.Builder request(ServiceUnderTest service, TokenPopulation.Member member) {
+            return HttpRequest.newBuilder(service.uri("/api/v1/profile"))
+                    .header("Authorization", "Bearer " + member.accessToken())
+                    .GET();
+        }
+    },
+    PROFILE_PUT("profile-put") {
+        @Override
+        HttpRequest.Builder request(ServiceUnderTest service, TokenPopulation.Member member) {
+            String body = "{\"bio\":\"load test " + ThreadLocalRandom.current().nextInt(1_000_000) + "\","
+                    + "\"location\":\"Seoul\",\"website\":\"https://example.com\"}";
+            return HttpRequest.newBuilder(service.uri("/api/v1/profile"))
+                    .header("Authorization", "Bearer " + member.accessToken())
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(body));
+        }
+    },
+    JWKS("jwks") {
+        @Override
+        HttpRequest.Builder request(ServiceUnderTest service, TokenPopulation.Member member) {
+            return HttpRequest.newBuilder(service.uri("/.well-known/jwks.json")).GET();
+        }
+    };
+
+    private final String scenarioName;
+
+    Scenario(String scenarioName) {
+        this.scenarioName = scenarioName;
+    }
+
+    public String scenarioName() {
+        return scenarioName;
+    }
+
+    abstract HttpRequest.Builder request(ServiceUnderTest service, TokenPopulation.Member member);
+
+    /**
+     * 모집단에서 임의의 사용자를 골라 게이트웨이 헤더가 포함된 요청을 만듭니다.
+     */
+    HttpRequest next(ServiceUnderTest service, TokenPopulation population) {
+        return request(service, population.randomMember())
+                .header("X-Gateway-Internal", service.gatewayToken())
+                .build();
+    }
+
+    static Scenario fromName(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.scenarioName.equals(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + name);
+    }
+}
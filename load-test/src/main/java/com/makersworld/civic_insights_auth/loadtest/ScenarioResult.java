@@ -0,0 +1,69 @@
+package com.makersworld.civic_insights_auth.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 시나리오 실행 결과
+ */
+record ScenarioResult(
+        String scenario,
+        String mode,
+        long requests,
+        long errors,
+        long dropped,
+        double durationSeconds,
+        double throughputPerSecond,
+        Map<String, Double> latencyMillis,
+        Map<Integer, Long> statusCounts,
+        long gcCount,
+        long gcTimeMillis,
+        long serverAllocatedBytes) {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    static ScenarioResult of(Scenario scenario, LoadTestOptions options, Measurement measurement,
+                             long elapsedNanos, JvmSnapshot before, JvmSnapshot after) {
+        Histogram histogram = measurement.histogram();
+        Map<String, Double> latency = new LinkedHashMap<>();
+        latency.put("mean", histogram.getMean() / 1_000_000.0);
+        for (double percentile : PERCENTILES) {
+            latency.put("p" + (percentile % 1 == 0 ? Integer.toString((int) percentile) : Double.toString(percentile)),
+                    histogram.getValueAtPercentile(percentile) / 1_000_000.0);
+        }
+        latency.put("max", histogram.getMaxValue() / 1_000_000.0);
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new ScenarioResult(
+                scenario.scenarioName(),
+                options.mode().name().toLowerCase(),
+                measurement.requests(),
+                measurement.errors(),
+                measurement.dropped(),
+                seconds,
+                measurement.requests() / seconds,
+                latency,
+                measurement.statusCounts(),
+                after.gcCount() - before.gcCount(),
+                after.gcTimeMillis() - before.gcTimeMillis(),
+                after.serverAllocatedSince(before));
+    }
+
+    double errorRate() {
+        return requests == 0 ? 0.0 : (double) errors / requests;
+    }
+
+    long serverAllocatedBytesPerRequest() {
+        return requests == 0 ? 0L : serverAllocatedBytes / requests;
+    }
+
+    String summaryLine() {
+        return String.format("%-12s %10.1f req/s  p50 %7.2f ms  p99 %7.2f ms  p99.9 %7.2f ms  errors %.2f%%  "
+                        + "dropped %d  gc %d (%d ms)  alloc %d B/req",
+                scenario, throughputPerSecond, latencyMillis.get("p50"), latencyMillis.get("p99"),
+                latencyMillis.get("p99.9"), errorRate() * 100, dropped, gcCount, gcTimeMillis,
+                serverAllocatedBytesPerRequest());
+    }
+}
@@ -0,0 +1,66 @@
+package com.makersworld.civic_insights_auth.loadtest;
+
+import com.makersworld.civic_insights_auth.CivicInsightsAuthApplication;
+import com.makersworld.civic_insights_auth.support.FakeGoogleOAuth2Server;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+
+/**
+ * 부하 대상 서비스: 가짜 Google 프로바이더와 함께 같은 JVM에서 인증 서비스를 기동합니다.
+ *
+ * 데이터베이스는 application.properties 기본값(localhost:3312, scripts/faststart/local-db.sh)을 사용하며,
+ * spring.* 인자/시스템 프로퍼티로 재정의할 수 있습니다.
+ */
+final class ServiceUnderTest implements AutoCloseable {
+
+    private final FakeGoogleOAuth2Server google;
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+    private final String gatewayToken;
+
+    private ServiceUnderTest(FakeGoogleOAuth2Server google, ConfigurableApplicationContext context) {
+        this.google = google;
+        this.context = context;
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.baseUrl = "http://127.0.0.1:" + port;
+        this.gatewayToken = context.getEnvironment().getRequiredProperty("app.security.gateway-token");
+    }
+
+    static ServiceUnderTest start(String[] args) {
+        FakeGoogleOAuth2Server google = FakeGoogleOAuth2Server.start();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CivicInsightsAuthApplication.class)
+                .properties(
+                        "server.port=0",
+                        "app.oauth2.google.authorization-uri=" + google.authorizationUri(),
+                        "app.oauth2.google.token-uri=" + google.tokenUri(),
+                        "app.oauth2.google.user-info-uri=" + google.userInfoUri(),
+                        // 측정 대상이 아닌 부수 작업/로그 출력 제거
+                        "app.avatar.cache-enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.makersworld.civic_insights_auth=WARN")
+                .run(args);
+        return new ServiceUnderTest(google, context);
+    }
+
+    FakeGoogleOAuth2Server google() {
+        return google;
+    }
+
+    String gatewayToken() {
+        return gatewayToken;
+    }
+
+    URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        google.close();
+    }
+}
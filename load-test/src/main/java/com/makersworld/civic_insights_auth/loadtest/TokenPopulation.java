@@ -0,0 +1,62 @@
+package com.makersworld.civic_insights_auth.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 토큰 모집단
+ *
+ * 실제 클라이언트와 동일하게 POST /api/v1/auth/google/token 으로 로그인하여
+ * 사용자별 액세스/리프레시 토큰을 확보합니다. (사용자/프로필 행도 함께 생성됨)
+ */
+final class TokenPopulation {
+
+    record Member(String email, String accessToken, String refreshToken) {
+    }
+
+    private final List<Member> members;
+
+    private TokenPopulation(List<Member> members) {
+        this.members = members;
+    }
+
+    static TokenPopulation signIn(ServiceUnderTest service, HttpClient client, int users)
+            throws IOException, InterruptedException {
+        ObjectMapper mapper = new ObjectMapper();
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        List<Member> members = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String email = "load-" + runId + "-" + i + "@example.com";
+            String code = service.google().issueCode(email, "Load User " + i);
+            HttpRequest request = HttpRequest.newBuilder(service.uri("/api/v1/auth/google/token"))
+                    .header("Content-Type", "application/json")
+                    .header("X-Gateway-Internal", service.gatewayToken())
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"code\":\"" + code + "\"}"))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Sign-in failed for " + email + ": HTTP " + response.statusCode());
+            }
+            JsonNode body = mapper.readTree(response.body());
+            members.add(new Member(email, body.get("accessToken").asText(), body.get("refreshToken").asText()));
+        }
+        return new TokenPopulation(List.copyOf(members));
+    }
+
+    Member randomMember() {
+        return members.get(ThreadLocalRandom.current().nextInt(members.size()));
+    }
+
+    int size() {
+        return members.size();
+    }
+}
@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Fast-start 아티팩트 빌드
+#  1) bootJar 빌드 (기본: Spring AOT 포함, AOT=false 로 비활성화)
+#  2) jarmode=tools 로 CDS 친화적인 디렉터리 구조로 추출
+#  3) 학습 실행(training run)으로 AppCDS 아카이브 생성
+#     (-Dspring.context.exit=onRefresh: 컨텍스트 리프레시 직후 종료)
+#
+# 학습 실행은 실제로 DB에 접속하므로 scripts/faststart/local-db.sh 로 대역 DB를 먼저 띄우세요.
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/../.." && pwd)"
+OUT_DIR="${FASTSTART_OUT:-$ROOT_DIR/build/faststart}"
+AOT="${AOT:-true}"
+
+cd "$ROOT_DIR"
+
+if [ "$AOT" = "true" ]; then
+  ./gradlew -q bootJar -Paot
+else
+  ./gradlew -q bootJar
+fi
+
+JAR="$(ls build/libs/*.jar | grep -v -- '-plain.jar' | head -n 1)"
+rm -rf "$OUT_DIR"
+java -Djarmode=tools -jar "$JAR" extract --destination "$OUT_DIR" >/dev/null
+APP_JAR="$OUT_DIR/$(basename "$JAR")"
+
+AOT_FLAG=()
+if [ "$AOT" = "true" ]; then
+  AOT_FLAG=(-Dspring.aot.enabled=true)
+fi
+
+java -XX:ArchiveClassesAtExit="$OUT_DIR/application.jsa" \
+  -Dspring.context.exit=onRefresh \
+  "${AOT_FLAG[@]}" \
+  -jar "$APP_JAR" --spring.profiles.active=faststart
+
+echo "Fast-start artifacts written to $OUT_DIR"
+echo "Run with:"
+echo "  java -XX:SharedArchiveFile=$OUT_DIR/application.jsa ${AOT_FLAG[*]} -jar $APP_JAR --spring.profiles.active=faststart"
@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+# 로컬 DB 대역(stand-in): 부팅 벤치마크/CDS 학습 실행용 MySQL 컨테이너를 3312 포트로 띄웁니다.
+# application.properties 기본 접속 정보(root/root, civic_insights)와 동일하게 구성합니다.
+set -euo pipefail
+
+CONTAINER_NAME="${BENCH_DB_CONTAINER:-civic-insights-auth-bench-db}"
+DB_PORT="${BENCH_DB_PORT:-3312}"
+
+if ! docker ps --format '{{.Names}}' | grep -qx "$CONTAINER_NAME"; then
+  docker rm -f "$CONTAINER_NAME" >/dev/null 2>&1 || true
+  docker run -d --name "$CONTAINER_NAME" \
+    -e MYSQL_ROOT_PASSWORD=root \
+    -e MYSQL_DATABASE=civic_insights \
+    -p "${DB_PORT}:3306" \
+    mysql:8.4 >/dev/null
+fi
+
+# 접속 가능할 때까지 대기
+for _ in $(seq 1 60); do
+  if docker exec "$CONTAINER_NAME" mysqladmin ping -uroot -proot --silent >/dev/null 2>&1; then
+    echo "Local database ready on port ${DB_PORT}"
+    exit 0
+  fi
+  sleep 1
+done
+
+echo "Local database did not become ready in time" >&2
+exit 1
@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+# 부팅 벤치마크: 프로세스 시작부터 첫 요청 성공까지의 시간(time-to-first-request)과 그 시점의 RSS를 측정합니다.
+#
+# 사용:
+#   scripts/faststart/local-db.sh
+#   scripts/faststart/build-cds.sh
+#   scripts/faststart/startup-benchmark.sh [반복 횟수]
+#
+# 모드별(기본 / faststart 프로필 / +AOT / +AOT+CDS)로 반복 실행하고 중앙값을 출력하며,
+# 원시 측정값은 build/faststart/startup-benchmark.csv 에 저장합니다.
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/../.." && pwd)"
+OUT_DIR="${FASTSTART_OUT:-$ROOT_DIR/build/faststart}"
+RUNS="${1:-5}"
+PORT="${BENCH_PORT:-8001}"
+# 게이트웨이 검증을 우회하는 공개 엔드포인트를 첫 요청으로 사용
+PROBE_URL="http://localhost:${PORT}/.well-known/jwks.json"
+RESULT_CSV="$OUT_DIR/startup-benchmark.csv"
+
+APP_JAR="$(ls "$OUT_DIR"/*.jar 2>/dev/null | head -n 1 || true)"
+if [ -z "$APP_JAR" ]; then
+  echo "Extracted jar not found in $OUT_DIR. Run scripts/faststart/build-cds.sh first." >&2
+  exit 1
+fi
+
+now_ms() {
+  date +%s%3N
+}
+
+# 모드 이름과 JVM/애플리케이션 인자를 받아 1회 측정 후 "ttfr_ms,rss_kb"를 출력
+measure() {
+  local start pid ttfr rss
+  start="$(now_ms)"
+  java "$@" --server.port="$PORT" >/dev/null 2>&1 &
+  pid=$!
+
+  until curl -sf -o /dev/null "$PROBE_URL"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "Application exited before serving the first request" >&2
+      return 1
+    fi
+    sleep 0.02
+  done
+  ttfr=$(( $(now_ms) - start ))
+  rss="$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")"
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "${ttfr},${rss}"
+}
+
+median() {
+  sort -n | awk '{a[NR]=$1} END {print (NR % 2) ? a[(NR+1)/2] : int((a[NR/2] + a[NR/2+1]) / 2)}'
+}
+
+run_mode() {
+  local mode="$1"; shift
+  local ttfrs=() rsss=() result
+  for i in $(seq 1 "$RUNS"); do
+    result="$(measure "$@")"
+    echo "${mode},${i},${result}" >> "$RESULT_CSV"
+    ttfrs+=("${result%,*}")
+    rsss+=("${result#*,}")
+  done
+  printf '%-16s ttfr_median=%6s ms  rss_median=%8s KB\n' "$mode" \
+    "$(printf '%s\n' "${ttfrs[@]}" | median)" \
+    "$(printf '%s\n' "${rsss[@]}" | median)"
+}
+
+echo "mode,run,ttfr_ms,rss_kb" > "$RESULT_CSV"
+
+run_mode "default" -jar "$APP_JAR"
+run_mode "faststart" -jar "$APP_JAR" --spring.profiles.active=faststart
+run_mode "faststart+aot" -Dspring.aot.enabled=true -jar "$APP_JAR" --spring.profiles.active=faststart
+if [ -f "$OUT_DIR/application.jsa" ]; then
+  run_mode "faststart+aot+cds" -XX:SharedArchiveFile="$OUT_DIR/application.jsa" -Dspring.aot.enabled=true \
+    -jar "$APP_JAR" --spring.profiles.active=faststart
+fi
+
+echo "Raw results: $RESULT_CSV"
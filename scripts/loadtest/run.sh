@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# 오프라인 부하 테스트: 로컬 DB를 띄우고 CLOSED/OPEN 두 모델로 전체 시나리오를 실행합니다.
+# 결과 JSON은 load-test/build/results/ 에 저장되며, BASELINE_DIR의 같은 모델 최신 결과와 비교합니다.
+#   scripts/loadtest/run.sh                 # 기본값
+#   RATE=1000 DURATION=60s scripts/loadtest/run.sh
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/../.." && pwd)"
+cd "$ROOT_DIR"
+
+USERS="${USERS:-200}"
+CONCURRENCY="${CONCURRENCY:-32}"
+RATE="${RATE:-500}"
+WARMUP="${WARMUP:-10s}"
+DURATION="${DURATION:-30s}"
+BASELINE_DIR="${BASELINE_DIR:-}"
+
+scripts/faststart/local-db.sh
+
+for MODE in closed open; do
+  ARGS="--mode=${MODE} --users=${USERS} --concurrency=${CONCURRENCY} --rate=${RATE} --warmup=${WARMUP} --duration=${DURATION}"
+  if [[ -n "$BASELINE_DIR" ]]; then
+    BASELINE="$(ls -t "${BASELINE_DIR}/${MODE}-"*.json 2>/dev/null | head -n1 || true)"
+    if [[ -n "$BASELINE" ]]; then
+      ARGS="${ARGS} --baseline=${BASELINE}"
+    fi
+  fi
+  ./gradlew -q :load-test:run --args="${ARGS}"
+done
@@ -0,0 +1,84 @@
+package com.makersworld.civic_insights_auth.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관측된 지연 시간 기반 AIMD 동시성 제한기
+ *
+ * 한도 이상의 동시 요청은 대기시키지 않고 즉시 거부합니다.
+ * 요청이 지연 기준 안에 성공하고 한도의 절반 이상을 쓰고 있으면 한도를 1 늘리고(additive increase),
+ * 지연 기준을 넘기거나 실패하면 한도에 backoffRatio를 곱해 줄입니다(multiplicative decrease).
+ * 과부하 시 대기열 대신 거부로 전환하여, 수락한 요청의 지연을 유지합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitProperties.Limit settings) {
+        this.name = name;
+        this.minLimit = settings.getMinLimit();
+        this.maxLimit = settings.getMaxLimit();
+        this.latencyThresholdNanos = settings.getLatencyThreshold().toNanos();
+        this.backoffRatio = settings.getBackoffRatio();
+        this.limit = settings.getInitialLimit();
+    }
+
+    /**
+     * 한도 안이면 슬롯을 점유합니다.
+     * @return 점유 성공 여부 (실패 시 요청을 거부해야 함)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 점유한 슬롯을 반환하고 결과로 한도를 조정합니다.
+     * @param latencyNanos 처리 시간
+     * @param overloaded 실패/하위 시스템 장애 등 과부하 신호 여부
+     */
+    public void release(long latencyNanos, boolean overloaded) {
+        int current = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (overloaded || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (current * 2 >= limit) {
+                // 한도를 충분히 사용 중일 때만 늘림 (유휴 상태에서 한도가 무한정 커지는 것 방지)
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
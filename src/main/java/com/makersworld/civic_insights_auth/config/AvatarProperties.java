@@ -0,0 +1,64 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 아바타 캐시 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.avatar")
+public class AvatarProperties {
+
+    /**
+     * 외부 아바타를 내려받아 로컬 캐시에서 제공할지 여부
+     */
+    private boolean cacheEnabled = true;
+
+    /**
+     * 콘텐츠 주소 기반(SHA-256) 캐시 디렉터리
+     */
+    private String cacheDir = System.getProperty("java.io.tmpdir") + "/civic-insights-auth/avatars";
+
+    /**
+     * 캐시 최대 용량 (초과 시 가장 오래 사용되지 않은 파일부터 삭제)
+     */
+    private long maxCacheBytes = 256L * 1024 * 1024;
+
+    /**
+     * 내려받을 원본 이미지 최대 크기
+     */
+    private int maxSourceBytes = 1024 * 1024;
+
+    /**
+     * 디코딩을 허용할 원본 이미지 최대 픽셀 수 (가로 x 세로, 압축 폭탄 방지)
+     */
+    private long maxSourcePixels = 2048L * 2048;
+
+    /**
+     * 정규화 시 가로/세로 최대 픽셀
+     */
+    private int maxDimension = 256;
+
+    /**
+     * 원본 다운로드 제한 시간
+     */
+    private Duration fetchTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 클라이언트에 반환할 캐시 아바타 URL의 기본 경로 (게이트웨이 경로에 맞게 재정의)
+     */
+    private String publicBaseUrl = "/api/v1/avatars";
+
+    /**
+     * 내려받기를 허용할 원본 호스트 접미사 (SSRF 방지)
+     */
+    private List<String> allowedHostSuffixes = new ArrayList<>(List.of("googleusercontent.com"));
+}
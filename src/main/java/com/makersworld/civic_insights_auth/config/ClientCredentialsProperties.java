@@ -0,0 +1,33 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 서비스 간 호출용 client_credentials 토큰 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.auth.client-credentials")
+public class ClientCredentialsProperties {
+
+    /**
+     * 서비스 클라이언트 액세스 토큰 유효 기간
+     */
+    private Duration tokenExpiration = Duration.ofHours(1);
+
+    /**
+     * 이미 발급된 토큰의 남은 유효 기간이 이보다 길면 새로 서명하지 않고 재사용
+     */
+    private Duration minRemainingForReuse = Duration.ofMinutes(5);
+
+    /**
+     * 검증된 클라이언트 시크릿을 기억하는 시간 (이 시간 동안은 BCrypt 검증/DB 조회 생략).
+     * 클라이언트 비활성화/시크릿 교체는 최대 이 시간 뒤에 반영됩니다.
+     */
+    private Duration verifiedSecretTtl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,28 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 인가 코드 교환 중복 제거(single-flight) 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.auth.code-exchange")
+public class CodeExchangeProperties {
+
+    /**
+     * 동일 인가 코드의 동시/중복 교환 요청을 하나로 합칠지 여부
+     */
+    private boolean coalescingEnabled = true;
+
+    /**
+     * 완료된 교환 결과를 중복 요청에 재사용하는 시간
+     * (브라우저 재시도/이중 제출이 도착하는 짧은 구간만 커버)
+     */
+    private Duration resultTtl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,102 @@
+package com.makersworld.civic_insights_auth.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+
+/**
+ * 로그인/토큰 갱신 엔드포인트에 엔드포인트 종류별 적응형 동시성 제한을 적용합니다.
+ *
+ * 한도를 넘는 요청은 Tomcat 대기열에서 기다리지 않고 즉시 503(Retry-After)으로 거부됩니다.
+ * 한도/처리 중 요청 수/거부 수는 auth.concurrency.* 지표로 노출됩니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.auth.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final AdaptiveConcurrencyLimiter signInLimiter;
+    private final AdaptiveConcurrencyLimiter refreshLimiter;
+
+    public ConcurrencyLimitConfig(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.signInLimiter = new AdaptiveConcurrencyLimiter("sign-in", properties.getSignIn());
+        this.refreshLimiter = new AdaptiveConcurrencyLimiter("refresh", properties.getRefresh());
+        bindMetrics(signInLimiter, meterRegistry);
+        bindMetrics(refreshLimiter, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(new LimitingInterceptor(signInLimiter))
+                .addPathPatterns("/api/v1/auth/google/token", "/api/v1/auth/login/oauth2/code/google");
+        registry.addInterceptor(new LimitingInterceptor(refreshLimiter))
+                .addPathPatterns("/api/v1/auth/refresh");
+    }
+
+    private static void bindMetrics(AdaptiveConcurrencyLimiter limiter, MeterRegistry registry) {
+        Gauge.builder("auth.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("endpoint", limiter.getName())
+                .register(registry);
+        Gauge.builder("auth.concurrency.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently admitted")
+                .tag("endpoint", limiter.getName())
+                .register(registry);
+        FunctionCounter.builder("auth.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                .description("Requests rejected because the concurrency limit was reached")
+                .tag("endpoint", limiter.getName())
+                .register(registry);
+    }
+
+    /**
+     * 핸들러 실행 전 슬롯을 점유하고, 완료 후 처리 시간/결과로 한도를 조정하는 인터셉터
+     */
+    private static final class LimitingInterceptor implements HandlerInterceptor {
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final String startAttribute;
+
+        LimitingInterceptor(AdaptiveConcurrencyLimiter limiter) {
+            this.limiter = limiter;
+            this.startAttribute = LimitingInterceptor.class.getName() + "." + limiter.getName();
+        }
+
+        @Override
+        public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                 @NonNull Object handler) throws IOException {
+            if (!limiter.tryAcquire()) {
+                log.debug("Concurrency limit reached for {} (limit={})", limiter.getName(), limiter.getLimit());
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                response.setHeader("Retry-After", "1");
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getWriter().write("{\"error\":\"Service Unavailable\",\"message\":\"Too many concurrent requests\",\"status\":503}");
+                return false;
+            }
+            request.setAttribute(startAttribute, System.nanoTime());
+            return true;
+        }
+
+        @Override
+        public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull Object handler, Exception ex) {
+            Object start = request.getAttribute(startAttribute);
+            if (start instanceof Long startNanos) {
+                // 5xx(Google 장애로 인한 503 포함)나 예외는 과부하 신호로 취급
+                boolean overloaded = ex != null || response.getStatus() >= 500;
+                limiter.release(System.nanoTime() - startNanos, overloaded);
+            }
+        }
+    }
+}
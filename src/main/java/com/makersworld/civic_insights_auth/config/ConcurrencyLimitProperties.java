@@ -0,0 +1,71 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 로그인/토큰 갱신 엔드포인트의 적응형 동시성 제한 설정 (AIMD)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.auth.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    /**
+     * 동시성 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 로그인(Google 코드 교환, 콜백) 제한: Google 호출과 DB 쓰기를 포함하므로 낮은 한도와 긴 지연 기준
+     */
+    private Limit signIn = new Limit(20, 4, 200, Duration.ofMillis(1500));
+
+    /**
+     * 토큰 갱신 제한: 서명만 수행하는 빠른 경로이므로 높은 한도와 짧은 지연 기준
+     */
+    private Limit refresh = new Limit(100, 10, 1000, Duration.ofMillis(100));
+
+    @Data
+    public static class Limit {
+
+        /**
+         * 초기 동시 처리 한도
+         */
+        private int initialLimit;
+
+        /**
+         * 한도 하한
+         */
+        private int minLimit;
+
+        /**
+         * 한도 상한
+         */
+        private int maxLimit;
+
+        /**
+         * 이 시간보다 오래 걸린 요청은 과부하 신호로 보고 한도를 줄임
+         */
+        private Duration latencyThreshold;
+
+        /**
+         * 과부하 신호 시 한도에 곱하는 비율
+         */
+        private double backoffRatio = 0.9;
+
+        public Limit() {
+        }
+
+        public Limit(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.latencyThreshold = latencyThreshold;
+        }
+    }
+}
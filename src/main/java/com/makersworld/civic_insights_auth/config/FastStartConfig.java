@@ -0,0 +1,23 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * Fast-start 프로필 설정
+ *
+ * faststart 프로필은 spring.main.lazy-initialization=true로 비핵심 빈의 생성을 첫 사용 시점으로 미룹니다.
+ * 단, 첫 요청 지연을 피해야 하는 핵심 빈(보안 필터 체인, JWT 키)은 부팅 시 즉시 초기화합니다.
+ */
+@Configuration
+@Profile("faststart")
+public class FastStartConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerAuthBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(SecurityFilterChain.class, JwtKeyProvider.class);
+    }
+}
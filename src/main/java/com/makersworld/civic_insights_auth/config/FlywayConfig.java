@@ -0,0 +1,40 @@
+package com.makersworld.civic_insights_auth.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationInfoService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기동 시 스키마 마이그레이션 전략
+ *
+ * 대기 중인 마이그레이션이 없으면(대부분의 파드 기동) 이력 테이블 조회와 체크섬 검증만 수행하고,
+ * 있을 때만 migrate를 실행합니다. migrate는 Flyway가 DB 잠금(MySQL GET_LOCK)을 잡고 대기 목록을 다시 확인하므로,
+ * 여러 파드가 동시에 기동해도 한 노드만 마이그레이션하고 나머지는 완료 후 적용된 상태를 확인합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "spring.flyway", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy validateOrMigrateStrategy() {
+        return flyway -> {
+            MigrationInfoService info = flyway.info();
+            MigrationInfo[] pending = info.pending();
+            if (pending.length == 0) {
+                // 빠른 경로: 스키마가 최신이면 잠금 없이 적용된 마이그레이션의 체크섬만 검증
+                flyway.validate();
+                MigrationInfo current = info.current();
+                log.info("Schema is up to date (version {}); validated without migrating",
+                        current == null ? "none" : current.getVersion());
+                return;
+            }
+            log.info("{} pending schema migration(s); migrating", pending.length);
+            flyway.migrate();
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package com.makersworld.civic_insights_auth.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Gateway 전용 접근 검증기
+ * 
+ * API Gateway를 통한 요청만 허용하고, 직접 접근을 차단합니다.
+ * X-Gateway-Internal 헤더의 존재 여부와 값을 검증합니다.
+ * 검증이 필요한 경로인지는 PreAuthenticationFilter의 라우트 테이블이 결정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GatewayAccessVerifier {
+
+    private final SecurityProperties securityProperties;
+
+    // 허용된 내부 IP 주소들 (옵션)
+    private static final List<String> ALLOWED_IPS = Arrays.asList(
+        "127.0.0.1"  // 개발 환경이므로 게이트웨이 위치는 로컬 IP (향후 실제 게이트웨이 위치로 변경 필요)
+    );
+
+    /**
+     * 게이트웨이 전용 모드 활성화 여부
+     */
+    public boolean isEnabled() {
+        return securityProperties.isGatewayOnly();
+    }
+
+    /**
+     * 요청이 게이트웨이를 경유했는지 검증합니다.
+     * @param request HTTP 요청
+     * @return 거부 사유 메시지, 통과하면 null
+     */
+    public String rejectionReason(HttpServletRequest request) {
+        String requestURI = request.getRequestURI();
+        String remoteAddr = getClientIpAddress(request);
+
+        // X-Gateway-Internal 헤더 검증
+        String gatewayHeader = request.getHeader("X-Gateway-Internal");
+        
+        if (gatewayHeader == null) {
+            log.warn("Gateway header missing - URI: {}, IP: {}", requestURI, remoteAddr);
+            return "Direct access not allowed. Please use the API Gateway.";
+        }
+        
+        String gatewayToken = securityProperties.getGatewayToken();
+        if (gatewayToken == null || gatewayToken.isBlank() || !gatewayToken.equals(gatewayHeader)) {
+            log.warn("Invalid gateway token - URI: {}, IP: {}, Token: {}", requestURI, remoteAddr, gatewayHeader);
+            return "Invalid gateway token.";
+        }
+        
+        // IP 주소 추가 검증 (옵션)
+        if (!isAllowedIP(remoteAddr)) {
+            log.warn("Unauthorized IP access - URI: {}, IP: {}", requestURI, remoteAddr);
+            return "Access from this IP address is not allowed.";
+        }
+        
+        log.debug("Gateway validation passed - URI: {}, IP: {}", requestURI, remoteAddr);
+        return null;
+    }
+    
+    /**
+     * 허용된 IP 주소인지 확인
+     */
+    private boolean isAllowedIP(String ipAddress) {
+        return ALLOWED_IPS.contains(ipAddress)
+            // 개발 환경에서 모든 로컬 IP 허용하려면 아래 주석 해제
+            // || ipAddress.startsWith("192.168.")
+            // || ipAddress.startsWith("10.")
+            // || ipAddress.startsWith("172.")
+            // 완전히 모든 IP 허용하려면 아래 주석 해제
+            // || ipAddress.startsWith("0.")
+            ;
+    }
+    
+    /**
+     * 클라이언트 IP 주소 추출 (프록시 고려)
+     */
+    private String getClientIpAddress(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            return xForwardedFor.split(",")[0].trim();
+        }
+        
+        String xRealIP = request.getHeader("X-Real-IP");
+        if (xRealIP != null && !xRealIP.isEmpty()) {
+            return xRealIP;
+        }
+        
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,40 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Google OAuth2 프로바이더 엔드포인트 설정
+ *
+ * 기본값은 실제 Google 엔드포인트이며, 부하 테스트나 오프라인 테스트에서는
+ * 가짜 프로바이더 주소로 재정의할 수 있습니다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.oauth2.google")
+public class GoogleOAuth2Properties {
+
+    /**
+     * 사용자를 보낼 Google 인증(동의) 페이지 URL
+     */
+    private String authorizationUri = "https://accounts.google.com/o/oauth2/v2/auth";
+
+    /**
+     * 인가 코드를 액세스 토큰으로 교환하는 토큰 엔드포인트 URL
+     */
+    private String tokenUri = "https://oauth2.googleapis.com/token";
+
+    /**
+     * 사용자 정보 조회 엔드포인트 URL
+     */
+    private String userInfoUri = "https://www.googleapis.com/oauth2/v2/userinfo";
+
+    /**
+     * Google 호출 1회당 최대 대기 시간 (초과 시 실패로 처리하여 서킷 브레이커에 기록)
+     */
+    private Duration callTimeout = Duration.ofSeconds(3);
+}
@@ -0,0 +1,46 @@
+package com.makersworld.civic_insights_auth.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Google OAuth2 호출 보호 설정 (서킷 브레이커 + 벌크헤드)
+ *
+ * Google이 느려질 때 모든 Tomcat 스레드가 Google 응답을 기다리며 묶이지 않도록
+ * 동시 호출 수를 제한하고(벌크헤드), 실패/지연이 지속되면 호출을 즉시 차단합니다(서킷 브레이커).
+ * 세부 임계값은 application.properties의 resilience4j.*.instances.google 에서 설정합니다.
+ * 상태/호출 지표는 resilience4j-micrometer가, 상태 전이 횟수는 여기서 등록한 카운터가 노출합니다.
+ */
+@Slf4j
+@Configuration
+public class GoogleOAuth2ResilienceConfig {
+
+    public static final String INSTANCE_NAME = "google";
+
+    @Bean
+    public CircuitBreaker googleOAuth2CircuitBreaker(CircuitBreakerRegistry registry, MeterRegistry meterRegistry) {
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(INSTANCE_NAME);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("Google OAuth2 circuit breaker transition: {}", event.getStateTransition());
+            Counter.builder("google.oauth2.circuitbreaker.transitions")
+                    .description("Google OAuth2 circuit breaker state transitions")
+                    .tag("from", event.getStateTransition().getFromState().name())
+                    .tag("to", event.getStateTransition().getToState().name())
+                    .register(meterRegistry)
+                    .increment();
+        });
+        return circuitBreaker;
+    }
+
+    @Bean
+    public Bulkhead googleOAuth2Bulkhead(BulkheadRegistry registry) {
+        return registry.bulkhead(INSTANCE_NAME);
+    }
+}
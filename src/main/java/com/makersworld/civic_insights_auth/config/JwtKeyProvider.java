@@ -7,6 +7,7 @@ import jakarta.annotation.PostConstruct;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * JWT 토큰 서명 및 검증을 위한 RSA 키 쌍을 관리하는 컴포넌트
@@ -15,16 +16,18 @@ import java.security.PublicKey;
 @Component
 public class JwtKeyProvider {
 
-    private KeyPair keyPair;
+    private CompletableFuture<KeyPair> keyPair;
 
     /**
      * 애플리케이션 초기화 시 RSA 키 쌍을 생성합니다.
      * 실제 운영 환경에서는 키를 안전하게 외부에서 주입받아야 합니다.
+     * 키 생성은 백그라운드에서 진행되어 JPA 등 나머지 부팅 단계와 겹쳐 실행되며,
+     * 최초 사용 시점에 완료를 기다립니다.
      */
     @PostConstruct
     public void init() {
         // RSA256 알고리즘을 사용하여 키 쌍 생성 (최신 API 사용)
-        this.keyPair = Jwts.SIG.RS256.keyPair().build();
+        this.keyPair = CompletableFuture.supplyAsync(() -> Jwts.SIG.RS256.keyPair().build());
     }
 
     /**
@@ -32,7 +35,7 @@ public class JwtKeyProvider {
      * @return RSA 개인키
      */
     public PrivateKey getPrivateKey() {
-        return keyPair.getPrivate();
+        return keyPair.join().getPrivate();
     }
 
     /**
@@ -40,6 +43,6 @@ public class JwtKeyProvider {
      * @return RSA 공개키
      */
     public PublicKey getPublicKey() {
-        return keyPair.getPublic();
+        return keyPair.join().getPublic();
     }
 } 
\ No newline at end of file
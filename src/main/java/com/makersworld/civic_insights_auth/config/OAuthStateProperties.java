@@ -0,0 +1,56 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 서버 주도 OAuth2 흐름의 state/PKCE 쿠키 설정
+ *
+ * state와 PKCE code_verifier는 서버 세션 대신 암호화된 쿠키로 브라우저에 보관하므로,
+ * 같은 시크릿을 가진 어느 인스턴스든 콜백을 처리할 수 있습니다. (스티키 세션/세션 저장소 불필요)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.oauth2.state")
+public class OAuthStateProperties {
+
+    /**
+     * 쿠키 암호화 키를 파생하는 시크릿 (Base64, 32바이트 이상).
+     * 비어 있으면 기동 시 임의 생성되며, 여러 인스턴스를 운영할 때는 모든 인스턴스에 같은 값을 설정해야 합니다.
+     */
+    private String secret;
+
+    /**
+     * 시크릿을 반드시 설정해야 하는지 여부 (운영 프로필에서 true, 비어 있으면 기동 실패)
+     */
+    private boolean secretRequired = false;
+
+    /**
+     * 로그인 시작부터 콜백까지 허용하는 시간
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * state 쿠키 이름
+     */
+    private String cookieName = "oauth_state";
+
+    /**
+     * state 쿠키 경로 (게이트웨이 경로 재작성과 무관하도록 기본값은 "/")
+     */
+    private String cookiePath = "/";
+
+    /**
+     * Secure 속성 사용 여부 (HTTPS가 아닌 로컬 개발 환경에서만 false)
+     */
+    private boolean cookieSecure = true;
+
+    /**
+     * 재사용 방지를 위해 기억하는 사용된 state의 최대 개수 (인스턴스별)
+     */
+    private int replayCacheSize = 10_000;
+}
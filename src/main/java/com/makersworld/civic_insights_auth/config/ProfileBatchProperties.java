@@ -0,0 +1,41 @@
+package com.makersworld.civic_insights_auth.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 일괄 공개 프로필 조회 설정
+ */
+@Data
+@Component
+@Validated
+@ConfigurationProperties(prefix = "app.profiles.batch")
+public class ProfileBatchProperties {
+
+    /**
+     * 한 요청에서 조회할 수 있는 최대 사용자 수 (userIds + emails)
+     */
+    private int maxSize = 200;
+
+    /**
+     * IN 목록 하나에 담는 최대 값 수 (초과 시 여러 쿼리로 나눔, 1 이상)
+     */
+    @Min(1)
+    private int chunkSize = 100;
+
+    /**
+     * 조회 결과(없는 사용자 포함) 캐시 유지 시간
+     */
+    private Duration cacheTtl = Duration.ofSeconds(30);
+
+    /**
+     * 캐시 최대 항목 수
+     */
+    private int cacheMaxEntries = 50_000;
+}
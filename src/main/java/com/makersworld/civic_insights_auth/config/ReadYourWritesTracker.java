@@ -0,0 +1,72 @@
+package com.makersworld.civic_insights_auth.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * read-your-writes 보장을 위한 최근 쓰기 추적기
+ *
+ * 프로필 수정이나 최초 로그인 직후에는 복제본에 아직 반영되지 않았을 수 있으므로,
+ * 같은 사용자의 읽기 전용 작업을 일정 시간 프라이머리로 고정합니다.
+ * 라우팅이 비활성화된 경우 아무 효과가 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesTracker {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final ReplicaRoutingProperties properties;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 스레드의 읽기가 프라이머리로 고정되어 있는지 여부 (라우팅 데이터소스에서 사용)
+     */
+    static boolean isPrimaryPinned() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * 사용자의 쓰기를 기록합니다.
+     */
+    public void markWrite(String key) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        lastWrites.put(key, now);
+        // 만료 항목은 쓰기 시점에 함께 정리하여 맵이 무한히 커지지 않도록 함
+        if (lastWrites.size() > 10_000) {
+            long window = properties.getReadYourWritesWindow().toMillis();
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt > window);
+        }
+    }
+
+    /**
+     * 최근 쓰기가 있었다면 현재 스레드의 읽기를 프라이머리로 고정합니다.
+     * try-with-resources로 사용하며, 실제 커넥션은 첫 쿼리 시점에 결정되므로
+     * 읽기 전용 트랜잭션 메서드 안에서 호출해도 효과가 있습니다.
+     */
+    public Pin pinIfRecentlyWritten(String key) {
+        if (!properties.isEnabled() || PINNED.get() != null) {
+            return Pin.NOOP;
+        }
+        Long writtenAt = lastWrites.get(key);
+        if (writtenAt == null || System.currentTimeMillis() - writtenAt > properties.getReadYourWritesWindow().toMillis()) {
+            return Pin.NOOP;
+        }
+        PINNED.set(Boolean.TRUE);
+        return PINNED::remove;
+    }
+
+    @FunctionalInterface
+    public interface Pin extends AutoCloseable {
+        Pin NOOP = () -> { };
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,38 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 불투명 참조 토큰(opaque reference token, phantom token 패턴) 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.auth.reference-tokens")
+public class ReferenceTokenProperties {
+
+    /**
+     * 활성화 시 클라이언트에는 JWT 대신 짧은 불투명 핸들을 액세스 토큰으로 발급하고,
+     * 게이트웨이가 내부 교환 엔드포인트로 핸들을 서명된 JWT로 바꿉니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 발급한 핸들을 DB에 모아서 저장하는 주기 (다른 인스턴스에서 교환 가능해지기까지의 최대 지연)
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * 교환 응답을 게이트웨이가 캐시할 수 있는 최대 시간 (전체 로그아웃이 게이트웨이 캐시에 반영되기까지의 상한)
+     */
+    private Duration exchangeCacheMaxAge = Duration.ofSeconds(60);
+
+    /**
+     * 만료된 핸들을 메모리/DB에서 정리하는 주기
+     */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+}
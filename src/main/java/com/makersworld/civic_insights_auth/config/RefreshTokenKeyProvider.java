@@ -0,0 +1,115 @@
+package com.makersworld.civic_insights_auth.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리프레시 토큰 서명용 HMAC 키를 관리하는 컴포넌트
+ *
+ * 리프레시 토큰은 이 서비스만 검증하므로 공개키 검증이 필요 없어, RSA 대신 HS256으로 서명합니다.
+ * 키는 교체 주기마다 바뀌며, 마스터 시크릿과 키 ID("rt-{주기 번호}")로부터 HMAC으로 파생되므로
+ * 같은 시크릿을 가진 모든 인스턴스가 키를 저장/공유하지 않고도 동일한 키를 얻습니다.
+ * 이 키 ID 공간은 JWKS(/.well-known/jwks.json)에 공개되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenKeyProvider {
+
+    public static final String KEY_ID_PREFIX = "rt-";
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final RefreshTokenProperties properties;
+    private final JwtProperties jwtProperties;
+
+    private final Map<String, SecretKey> keys = new ConcurrentHashMap<>();
+    private byte[] masterSecret;
+
+    @PostConstruct
+    public void init() {
+        String secret = properties.getSecret();
+        if (secret == null || secret.isBlank()) {
+            // 인스턴스별 임시 키는 다른 노드/재시작 후 리프레시 토큰을 모두 거부하므로 운영에서는 기동 중단
+            if (properties.isSecretRequired()) {
+                throw new IllegalStateException("app.auth.refresh-tokens.secret (REFRESH_TOKEN_SECRET) must be set");
+            }
+            masterSecret = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(masterSecret);
+            log.warn("Refresh token secret not configured; using an ephemeral secret (refresh tokens won't survive restarts)");
+        } else {
+            masterSecret = Base64.getDecoder().decode(secret.trim());
+            if (masterSecret.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("app.auth.refresh-tokens.secret must be at least 32 bytes");
+            }
+        }
+    }
+
+    /**
+     * 현재 교체 주기의 서명 키 ID를 반환합니다.
+     */
+    public String currentKeyId() {
+        return KEY_ID_PREFIX + currentPeriod();
+    }
+
+    /**
+     * 키 ID에 해당하는 서명 키를 반환합니다.
+     * @param keyId 키 ID
+     * @return HMAC 키, 형식이 잘못되었거나 검증 보관 기간을 벗어난 키 ID이면 null
+     */
+    public SecretKey getKey(String keyId) {
+        if (!isRetained(keyId)) {
+            return null;
+        }
+        SecretKey key = keys.get(keyId);
+        if (key == null) {
+            // 새 주기의 키가 처음 쓰일 때 보관 기간이 지난 키를 정리
+            keys.keySet().removeIf(id -> !isRetained(id));
+            key = keys.computeIfAbsent(keyId, this::derive);
+        }
+        return key;
+    }
+
+    // 리프레시 토큰 만료 기간을 덮는 주기 범위의 키만 유효
+    private boolean isRetained(String keyId) {
+        if (keyId == null || !keyId.startsWith(KEY_ID_PREFIX)) {
+            return false;
+        }
+        long period;
+        try {
+            period = Long.parseLong(keyId.substring(KEY_ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        long rotationMillis = properties.getRotationPeriod().toMillis();
+        long retainedPeriods = (jwtProperties.getRefreshExpiration() + rotationMillis - 1) / rotationMillis;
+        long current = currentPeriod();
+        return period <= current && period >= current - retainedPeriods;
+    }
+
+    private long currentPeriod() {
+        return System.currentTimeMillis() / properties.getRotationPeriod().toMillis();
+    }
+
+    private SecretKey derive(String keyId) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(new SecretKeySpec(masterSecret, HMAC_SHA256));
+            return new SecretKeySpec(mac.doFinal(keyId.getBytes(StandardCharsets.US_ASCII)), HMAC_SHA256);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to derive refresh token key", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 리프레시 토큰 전용 서명 키(HS256) 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.auth.refresh-tokens")
+public class RefreshTokenProperties {
+
+    /**
+     * 기간별 서명 키를 파생하는 마스터 시크릿 (Base64, 32바이트 이상).
+     * 비어 있으면 기동 시 임의 생성되어 재시작하면 기존 리프레시 토큰이 무효화됩니다.
+     * 여러 인스턴스를 운영할 때는 모든 인스턴스에 같은 값을 설정해야 합니다.
+     */
+    private String secret;
+
+    /**
+     * 시크릿을 반드시 설정해야 하는지 여부 (운영 프로필에서 true, 비어 있으면 기동 실패)
+     */
+    private boolean secretRequired = false;
+
+    /**
+     * 서명 키 교체 주기 (이전 키는 리프레시 토큰 만료 기간 동안 검증용으로 유지)
+     */
+    private Duration rotationPeriod = Duration.ofDays(1);
+}
@@ -0,0 +1,109 @@
+package com.makersworld.civic_insights_auth.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프라이머리/복제본 라우팅 데이터소스 구성 (app.datasource.routing.enabled=true 일 때만 적용)
+ *
+ * 각 풀은 별도의 Hikari 풀로 생성되며, hikaricp.* 지표는 풀 이름으로 구분되고
+ * 헬스는 dataSourcePools 아래에 풀별로 노출됩니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    /**
+     * 프라이머리 풀: spring.datasource.* 및 spring.datasource.hikari.* 설정을 그대로 사용
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        // 빈으로 등록된 풀이므로 hikaricp.* 지표는 Spring Boot가 자동으로 바인딩
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return primary;
+    }
+
+    /**
+     * 복제본 풀: 빈이 아니므로 지표 레지스트리를 직접 연결
+     */
+    @Bean
+    public ReplicaPools replicaPools(ReplicaRoutingProperties properties,
+                                     DataSourceProperties dataSourceProperties,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        int index = 0;
+        for (ReplicaRoutingProperties.Replica replica : properties.getReplicas()) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(replica.getName() != null ? replica.getName() : "replica-" + index);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.getUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.getPassword());
+            dataSource.setDriverClassName(dataSourceProperties.getDriverClassName());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            meterRegistry.ifAvailable(dataSource::setMetricRegistry);
+            replicas.add(dataSource);
+            index++;
+        }
+        return new ReplicaPools(replicas);
+    }
+
+    /**
+     * 애플리케이션(JPA)이 사용하는 데이터소스.
+     * 라우팅 결정이 트랜잭션의 readOnly 플래그가 설정된 이후(첫 쿼리 시점)에 일어나도록 지연 프록시로 감쌉니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPools replicaPools,
+                                 ReplicaRoutingProperties properties) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primaryDataSource, replicaPools.dataSources(), properties.getSelection());
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 풀별 헬스 체크 (actuator/health 의 dataSourcePools 항목)
+     */
+    @Bean
+    public HealthContributor dataSourcePoolsHealthContributor(HikariDataSource primaryDataSource,
+                                                              ReplicaPools replicaPools) {
+        Map<String, HealthContributor> pools = new LinkedHashMap<>();
+        pools.put(primaryDataSource.getPoolName(), new DataSourceHealthIndicator(primaryDataSource, "SELECT 1"));
+        for (HikariDataSource replica : replicaPools.dataSources()) {
+            pools.put(replica.getPoolName(), new DataSourceHealthIndicator(replica, "SELECT 1"));
+        }
+        return CompositeHealthContributor.fromMap(pools);
+    }
+
+    /**
+     * 복제본 풀 목록 (컨텍스트 종료 시 close()로 모든 풀을 닫음)
+     */
+    public record ReplicaPools(List<HikariDataSource> dataSources) implements AutoCloseable {
+        @Override
+        public void close() {
+            dataSources.forEach(HikariDataSource::close);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.makersworld.civic_insights_auth.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 성격에 따라 프라이머리/복제본 풀을 선택하는 라우팅 데이터소스
+ *
+ * readOnly 트랜잭션은 복제본 중 하나(라운드로빈 또는 활성 커넥션 최소)로 보내고,
+ * 쓰기 트랜잭션과 read-your-writes로 고정된 읽기는 프라이머리로 보냅니다.
+ * 트랜잭션 시작 후 첫 쿼리 시점에 결정되도록 LazyConnectionDataSourceProxy로 감싸서 사용해야 합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<HikariDataSource> replicas;
+    private final ReplicaRoutingProperties.Selection selection;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    ReplicaRoutingProperties.Selection selection) {
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (HikariDataSource replica : replicas) {
+            targets.put(replica.getPoolName(), replica);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadYourWritesTracker.isPrimaryPinned()) {
+            return PRIMARY;
+        }
+        return selectReplica().getPoolName();
+    }
+
+    private HikariDataSource selectReplica() {
+        if (selection == ReplicaRoutingProperties.Selection.LEAST_CONNECTIONS) {
+            HikariDataSource best = replicas.get(0);
+            int bestActive = Integer.MAX_VALUE;
+            for (HikariDataSource replica : replicas) {
+                HikariPoolMXBean pool = replica.getHikariPoolMXBean();
+                int active = pool != null ? pool.getActiveConnections() : 0;
+                if (active < bestActive) {
+                    best = replica;
+                    bestActive = active;
+                }
+            }
+            return best;
+        }
+        return replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(replica) 라우팅 설정
+ * 프라이머리 접속 정보는 spring.datasource.* 를 그대로 사용합니다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    /**
+     * 읽기 전용 트랜잭션을 복제본으로 라우팅할지 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 복제본 선택 방식
+     */
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    /**
+     * 쓰기 직후 같은 사용자의 읽기를 프라이머리로 고정하는 시간 (복제 지연 대비 read-your-writes)
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * 복제본 목록
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    public enum Selection {
+        ROUND_ROBIN, LEAST_CONNECTIONS
+    }
+
+    @Data
+    public static class Replica {
+        /**
+         * 풀 이름 (지표/헬스에 표시)
+         */
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
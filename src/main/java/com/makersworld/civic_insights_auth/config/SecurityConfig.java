@@ -1,6 +1,9 @@
 package com.makersworld.civic_insights_auth.config;
 
-import com.makersworld.civic_insights_auth.security.JwtAuthenticationFilter;
+import com.makersworld.civic_insights_auth.enums.Role;
+import com.makersworld.civic_insights_auth.security.JwtRequestAuthenticator;
+import com.makersworld.civic_insights_auth.security.PreAuthenticationFilter;
+import com.makersworld.civic_insights_auth.security.RouteTable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,7 +23,10 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private static final String[] USER_ROLES = Arrays.stream(Role.values()).map(Role::name).toArray(String[]::new);
+
+    private final GatewayAccessVerifier gatewayAccessVerifier;
+    private final JwtRequestAuthenticator jwtRequestAuthenticator;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -31,8 +37,14 @@ public class SecurityConfig {
            .formLogin(formLogin -> formLogin.disable())
            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
            .authorizeHttpRequests(auth -> auth
+               // 전체 로그아웃은 /api/v1/auth/** 중 유일하게 인증이 필요한 엔드포인트
+               // 사용자 역할만 허용 (client_credentials 서비스 토큰은 사용자가 아니므로 403)
+               .requestMatchers("/api/v1/auth/logout-all").hasAnyRole(USER_ROLES)
                .requestMatchers(
                    "/.well-known/jwks.json",
+                   "/actuator/health/**",
+                   "/internal/v1/tokens/exchange",
+                   "/api/v1/avatars/**",
                    "/api/v1/auth/**", 
                    "/error",
                    "/swagger-ui/**",
@@ -40,11 +52,18 @@ public class SecurityConfig {
                    "/v3/api-docs/**"
                ).permitAll()
                .requestMatchers("/api/v1/profile/**").authenticated()
+               // 일괄 프로필 조회는 내부용: 관리자 또는 profiles:read 스코프를 받은 서비스 토큰만 허용
+               // (일반 사용자가 이메일로 사용자 ID/가입 여부를 알아낼 수 없도록)
+               .requestMatchers("/api/v1/profiles/batch").hasAnyAuthority("ROLE_ADMIN", "SCOPE_profiles:read")
+               // 사용자 디렉터리 검색은 관리자 또는 users:search 스코프를 받은 서비스 토큰만 허용
+               .requestMatchers("/api/v1/admin/**").hasAnyAuthority("ROLE_ADMIN", "SCOPE_users:search")
+               // health 외 actuator 엔드포인트(지표, 서킷 브레이커 상태/이벤트)는 내부 정보이므로 관리자만 허용
+               .requestMatchers("/actuator/**").hasRole("ADMIN")
                .anyRequest().authenticated()
             )
-           .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
-        // JWT filter added for profile management endpoints
-        // This service handles authentication, token generation, and user profile management
+           // 게이트웨이 검증 + JWT 인증 단일 필터 (라우트 테이블은 위 permitAll/authenticated 규칙과 일치해야 함)
+           .addFilterBefore(new PreAuthenticationFilter(RouteTable.defaults(), gatewayAccessVerifier, jwtRequestAuthenticator),
+                   UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
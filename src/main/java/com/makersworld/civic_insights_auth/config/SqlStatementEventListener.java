@@ -0,0 +1,35 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * JDBC 문 실행 횟수/시간을 SqlStatementStats에 기록하는 Hibernate 세션 이벤트 리스너
+ *
+ * hibernate.session.events.auto 설정으로 세션마다 생성되며, 세션은 한 스레드에서만 사용되므로
+ * 시작 시각을 필드에 보관합니다.
+ */
+public class SqlStatementEventListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats.record(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementStats.record(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,147 @@
+package com.makersworld.civic_insights_auth.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 문 수/실행 시간 측정 필터
+ *
+ * 요청마다 SqlStatementStats 측정 구간을 열고, 종료 시 엔드포인트(메서드 + 경로 패턴)별 지표를 기록합니다.
+ * 엔드포인트 예산을 초과하면 구조화된 경고 로그를 남기고, 비운영 환경에서는 응답 헤더로 측정값을 노출합니다.
+ * 헤더는 응답 본문이 쓰이기 직전(커밋 전)까지의 값이므로, 직렬화 중 지연 로딩으로 발생한 문은 지표/로그에만 반영됩니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final SqlStatementProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementStats.begin();
+        HttpServletResponse target = properties.isExposeHeader() ? new StatsHeaderResponse(response) : response;
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            if (target instanceof StatsHeaderResponse headerResponse && !response.isCommitted()) {
+                headerResponse.writeStatsHeaders();
+            }
+            SqlStatementStats.Snapshot stats = SqlStatementStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats.Snapshot stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("JDBC statements executed per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder("http.server.requests.sql.time")
+                .description("Cumulative JDBC execution time per request")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.nanos(), TimeUnit.NANOSECONDS);
+
+        int budget = properties.getBudgets().getOrDefault(uri, properties.getDefaultBudget());
+        if (stats.statements() > budget) {
+            log.warn("sql_budget_exceeded method={} uri={} statements={} budget={} sql_time_ms={}",
+                    method, uri, stats.statements(), budget, stats.millis());
+        }
+    }
+
+    /**
+     * 응답이 커밋되기 직전에 측정 헤더를 한 번 기록하는 응답 래퍼
+     */
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private boolean written;
+
+        StatsHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void writeStatsHeaders() {
+            if (written) {
+                return;
+            }
+            written = true;
+            SqlStatementStats.Snapshot stats = SqlStatementStats.current();
+            setHeader(STATEMENTS_HEADER, Integer.toString(stats.statements()));
+            setHeader(TIME_HEADER, Long.toString(stats.millis()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeStatsHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeStatsHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeStatsHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeStatsHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeStatsHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeStatsHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청별 SQL 문 수 측정 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.sql-statements")
+public class SqlStatementProperties {
+
+    /**
+     * 요청별 SQL 문 수/시간 측정 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 응답 헤더(X-SQL-Statements, X-SQL-Time-Ms)로 측정값을 노출할지 여부 (운영 환경에서는 비활성화)
+     */
+    private boolean exposeHeader = true;
+
+    /**
+     * 엔드포인트별 예산이 없을 때 적용할 요청당 SQL 문 수 상한
+     */
+    private int defaultBudget = 10;
+
+    /**
+     * 엔드포인트 경로 패턴(예: /api/v1/profile)별 요청당 SQL 문 수 상한. 초과 시 경고 로그를 남깁니다.
+     */
+    private Map<String, Integer> budgets = new HashMap<>();
+}
@@ -0,0 +1,71 @@
+package com.makersworld.civic_insights_auth.config;
+
+/**
+ * 현재 스레드(요청)에서 실행된 JDBC 문 수와 실행 시간 누적기
+ *
+ * SqlStatementMetricsFilter가 요청 시작/종료 시 begin/end를 호출하고,
+ * Hibernate 세션 이벤트 리스너(SqlStatementEventListener)가 문 실행마다 record를 호출합니다.
+ * 측정 구간이 시작되지 않은 스레드에서의 실행은 무시됩니다.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<Counter> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementStats() {
+    }
+
+    /**
+     * 현재 스레드에서 측정을 시작합니다. (진행 중인 측정은 초기화)
+     */
+    public static void begin() {
+        CURRENT.set(new Counter());
+    }
+
+    /**
+     * 현재 스레드의 측정을 종료하고 결과를 반환합니다.
+     */
+    public static Snapshot end() {
+        Counter counter = CURRENT.get();
+        CURRENT.remove();
+        return counter == null ? Snapshot.EMPTY : counter.snapshot();
+    }
+
+    /**
+     * 측정을 종료하지 않고 현재까지의 결과를 반환합니다.
+     */
+    public static Snapshot current() {
+        Counter counter = CURRENT.get();
+        return counter == null ? Snapshot.EMPTY : counter.snapshot();
+    }
+
+    static void record(long elapsedNanos) {
+        Counter counter = CURRENT.get();
+        if (counter != null) {
+            counter.statements++;
+            counter.nanos += elapsedNanos;
+        }
+    }
+
+    /**
+     * 측정 결과
+     * @param statements 실행된 JDBC 문 수
+     * @param nanos 누적 실행 시간 (나노초)
+     */
+    public record Snapshot(int statements, long nanos) {
+
+        static final Snapshot EMPTY = new Snapshot(0, 0L);
+
+        public long millis() {
+            return nanos / 1_000_000L;
+        }
+    }
+
+    private static final class Counter {
+        private int statements;
+        private long nanos;
+
+        Snapshot snapshot() {
+            return new Snapshot(statements, nanos);
+        }
+    }
+}
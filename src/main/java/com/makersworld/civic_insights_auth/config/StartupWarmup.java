@@ -0,0 +1,148 @@
+package com.makersworld.civic_insights_auth.config;
+
+import com.makersworld.civic_insights_auth.service.JwtService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 준비(readiness) 상태 전환 전에 실행되는 워밍업
+ *
+ * Spring Boot는 모든 ApplicationRunner가 끝난 뒤에 readiness를 ACCEPTING_TRAFFIC으로 바꾸므로,
+ * 이 러너가 끝날 때까지 새 파드는 트래픽을 받지 않습니다.
+ * 1) JwtService로 토큰을 발급/검증하여 jjwt/RSA/HMAC 경로를 JIT 컴파일시키고,
+ * 2) Hikari 풀마다 최소 커넥션을 열어 SELECT 1을 실행하며,
+ * 3) OAuth WebClient로 Google 엔드포인트에 미리 연결(DNS/TLS)합니다.
+ * 전체 시간 제한을 넘으면 남은 단계를 건너뛰고, 수행 내역을 로그로 보고합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final String WARMUP_SUBJECT = "warmup@civic-insights.local";
+
+    private final WarmupProperties properties;
+    private final JwtService jwtService;
+    private final WebClient webClient;
+    private final GoogleOAuth2Properties googleOAuth2Properties;
+    private final ObjectProvider<HikariDataSource> hikariDataSources;
+    private final ObjectProvider<ReplicaRoutingConfig.ReplicaPools> replicaPools;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + properties.getTimeBudget().toNanos();
+
+        int tokens = warmTokens(deadline);
+        Map<String, Integer> pools = warmConnectionPools(deadline);
+        List<String> preconnected = properties.isPreconnectGoogle() ? preconnectGoogle(deadline) : List.of();
+
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        boolean budgetExceeded = System.nanoTime() > deadline;
+        log.info("Warm-up finished in {} ms (budget {} ms{}): tokens={}/{}, pools={}, preconnected={}",
+                elapsedMs, properties.getTimeBudget().toMillis(), budgetExceeded ? ", exceeded" : "",
+                tokens, properties.getTokenIterations(), pools, preconnected);
+    }
+
+    // 액세스/리프레시 토큰 발급과 검증을 반복하여 서명/파싱 경로를 컴파일시킴
+    private int warmTokens(long deadline) {
+        int completed = 0;
+        try {
+            for (; completed < properties.getTokenIterations() && System.nanoTime() < deadline; completed++) {
+                String accessToken = jwtService.generateToken(WARMUP_SUBJECT, "USER");
+                Claims claims = jwtService.parseVerifiedClaims(accessToken);
+                String refreshToken = jwtService.generateRefreshToken(WARMUP_SUBJECT, "USER", "Warm-up", 0);
+                Claims refreshClaims = jwtService.parseVerifiedRefreshClaims(refreshToken);
+                if (claims == null || refreshClaims == null) {
+                    log.warn("Warm-up token verification failed; stopping token warm-up");
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Token warm-up failed after {} iterations: {}", completed, e.getMessage());
+        }
+        return completed;
+    }
+
+    // 풀별로 커넥션을 동시에 빌려 물리 연결을 만들고, 각 연결에서 SELECT 1 실행 후 반납
+    private Map<String, Integer> warmConnectionPools(long deadline) {
+        Set<HikariDataSource> dataSources = Collections.newSetFromMap(new IdentityHashMap<>());
+        hikariDataSources.orderedStream().forEach(dataSources::add);
+        replicaPools.ifAvailable(replicas -> dataSources.addAll(replicas.dataSources()));
+
+        Map<String, Integer> warmed = new LinkedHashMap<>();
+        for (HikariDataSource dataSource : dataSources) {
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+            int target = Math.max(1, Math.min(properties.getMaxConnectionsPerPool(),
+                    Math.min(dataSource.getMinimumIdle(), dataSource.getMaximumPoolSize())));
+            List<Connection> borrowed = new ArrayList<>(target);
+            try {
+                for (int i = 0; i < target && System.nanoTime() < deadline; i++) {
+                    Connection connection = dataSource.getConnection();
+                    borrowed.add(connection);
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("SELECT 1");
+                    }
+                }
+            } catch (SQLException e) {
+                log.warn("Connection warm-up failed for pool {}: {}", dataSource.getPoolName(), e.getMessage());
+            } finally {
+                for (Connection connection : borrowed) {
+                    try {
+                        connection.close();
+                    } catch (SQLException ignored) {
+                        // 풀에 반납 실패는 워밍업 결과에 영향 없음
+                    }
+                }
+            }
+            warmed.put(dataSource.getPoolName(), borrowed.size());
+        }
+        return warmed;
+    }
+
+    // 응답 상태와 무관하게 연결(DNS/TCP/TLS)만 목적이므로 HEAD 요청 결과는 무시하고 본문을 버림
+    private List<String> preconnectGoogle(long deadline) {
+        List<String> reached = new ArrayList<>();
+        for (String uri : List.of(googleOAuth2Properties.getTokenUri(), googleOAuth2Properties.getUserInfoUri())) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                break;
+            }
+            Duration timeout = Duration.ofNanos(Math.min(remainingNanos, googleOAuth2Properties.getCallTimeout().toNanos()));
+            try {
+                Integer status = webClient.head()
+                        .uri(uri)
+                        .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+                        .timeout(timeout)
+                        .block();
+                reached.add(uri + " (" + status + ")");
+            } catch (RuntimeException e) {
+                log.warn("Pre-connect to {} failed: {}", uri, e.getMessage());
+            }
+        }
+        return reached;
+    }
+}
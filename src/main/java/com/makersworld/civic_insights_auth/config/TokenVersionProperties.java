@@ -0,0 +1,29 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 사용자 보안 버전(token_version) 메모리 캐시 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.auth.token-version")
+public class TokenVersionProperties {
+
+    /**
+     * 메모리에 보관한 보안 버전을 신뢰하는 시간.
+     * 다른 인스턴스에서 발생한 무효화(전체 로그아웃)는 최대 이 시간 이후 반영됩니다.
+     */
+    private Duration cacheTtl = Duration.ofSeconds(60);
+
+    /**
+     * 메모리에 보관할 최대 사용자 수.
+     * 가득 차면 TTL이 지난 항목을 정리하고, 그래도 여유가 없으면 전체를 비웁니다. (이후 갱신은 DB에서 다시 조회)
+     */
+    private int maxEntries = 100_000;
+}
@@ -0,0 +1,45 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+/**
+ * 사용자 디렉터리 검색(인메모리 n-gram 색인) 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.directory")
+public class UserDirectoryProperties {
+
+    /**
+     * 기동 시 DB에서 색인을 구축할지 여부
+     */
+    private boolean rebuildOnStartup = true;
+
+    /**
+     * 색인 재구축 시 한 번에 읽는 사용자 ID 범위 크기
+     */
+    private int rebuildChunkSize = 5000;
+
+    /**
+     * 색인 재구축 시 동시에 읽는 청크 수
+     */
+    private int rebuildParallelism = 4;
+
+    /**
+     * 필드별 색인 최대 길이 (긴 자기소개는 앞부분만 색인)
+     */
+    private int maxIndexedFieldLength = 256;
+
+    /**
+     * 최소 검색어 길이
+     */
+    private int minQueryLength = 2;
+
+    /**
+     * 페이지 최대 크기
+     */
+    private int maxPageSize = 100;
+}
@@ -0,0 +1,42 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * 준비(readiness) 전 워밍업 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.warmup")
+public class WarmupProperties {
+
+    /**
+     * 워밍업 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * JIT 워밍업을 위해 발급/검증할 토큰 수 (액세스 + 리프레시 1쌍 기준)
+     */
+    private int tokenIterations = 2000;
+
+    /**
+     * 워밍업 전체 시간 제한 (초과 시 남은 단계를 건너뛰고 준비 상태로 전환)
+     */
+    private Duration timeBudget = Duration.ofSeconds(10);
+
+    /**
+     * 풀마다 미리 열어 둘 최대 커넥션 수 (풀의 minimumIdle과 이 값 중 작은 값)
+     */
+    private int maxConnectionsPerPool = 10;
+
+    /**
+     * Google OAuth2 엔드포인트에 미리 연결(TLS 핸드셰이크)할지 여부
+     */
+    private boolean preconnectGoogle = true;
+}
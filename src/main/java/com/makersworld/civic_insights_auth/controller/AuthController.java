@@ -1,21 +1,37 @@
 package com.makersworld.civic_insights_auth.controller;
 
+import com.makersworld.civic_insights_auth.config.OAuthStateProperties;
 import com.makersworld.civic_insights_auth.dto.AuthRequest;
 import com.makersworld.civic_insights_auth.dto.AuthResponse;
+import com.makersworld.civic_insights_auth.dto.ClientTokenResponse;
 import com.makersworld.civic_insights_auth.service.AuthService;
+import com.makersworld.civic_insights_auth.service.ClientCredentialsException;
+import com.makersworld.civic_insights_auth.service.ClientCredentialsService;
+import com.makersworld.civic_insights_auth.service.GoogleOAuth2UnavailableException;
+import com.makersworld.civic_insights_auth.service.InvalidOAuthStateException;
+import com.makersworld.civic_insights_auth.service.OAuthStateService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
 
 @Tag(name = "Authentication", description = "Endpoints for user authentication and token management")
 @RestController
@@ -24,6 +40,9 @@ import java.nio.charset.StandardCharsets;
 public class AuthController {
 
     private final AuthService authService;
+    private final OAuthStateService oAuthStateService;
+    private final OAuthStateProperties oAuthStateProperties;
+    private final ClientCredentialsService clientCredentialsService;
 
     // 프런트엔드 최종 리다이렉트 목적지(base). 기본값은 application.properties의 frontend.redirect-base
     @Value("${frontend.redirect-base:http://localhost:9002}")
@@ -37,7 +56,11 @@ public class AuthController {
     @Operation(summary = "Google OAuth2 로그인 페이지로 리디렉션", description = "사용자를 Google OAuth2 인증 페이지로 보냅니다. 인증 후에는 설정된 redirect-uri로 돌아옵니다.")
     @GetMapping("/google")
     public void redirectToGoogle(HttpServletResponse response) throws IOException {
-        String url = authService.getGoogleAuthorizationUrl();
+        // state와 PKCE code_verifier는 서버 세션 대신 암호화 쿠키로 보관 (어느 인스턴스든 콜백 처리 가능)
+        OAuthStateService.AuthorizationRequest authorization = oAuthStateService.begin();
+        response.addHeader(HttpHeaders.SET_COOKIE,
+                stateCookie(authorization.cookieValue(), oAuthStateProperties.getTtl().toSeconds()).toString());
+        String url = authService.getGoogleAuthorizationUrl(authorization.state(), authorization.codeChallenge());
         response.sendRedirect(url);
     }
 
@@ -45,13 +68,17 @@ public class AuthController {
     @Operation(summary = "Google OAuth2 로그인", description = "Handles Google OAuth2 authentication by exchanging an auth code for JWT tokens.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Authentication successful", content = @Content(schema = @Schema(implementation = AuthResponse.class))),
-                    @ApiResponse(responseCode = "400", description = "Invalid authentication code")
+                    @ApiResponse(responseCode = "400", description = "Invalid authentication code"),
+                    @ApiResponse(responseCode = "503", description = "Google OAuth2 temporarily unavailable")
             })
     @PostMapping("/google/token")
     public ResponseEntity<AuthResponse> signInWithGoogle(@RequestBody AuthRequest request) {
         try {
-            AuthResponse response = authService.signInWithGoogle(request.getCode());
+            AuthResponse response = authService.signInWithGoogle(request.getCode(), request.getCodeVerifier());
             return ResponseEntity.ok(response);
+        } catch (GoogleOAuth2UnavailableException e) {
+            // Google 장애로 인한 빠른 실패: 잘못된 코드(400)와 구분하여 503 응답
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
@@ -63,16 +90,22 @@ public class AuthController {
                     @ApiResponse(responseCode = "400", description = "Invalid authentication code")
             })
     @GetMapping("/login/oauth2/code/google")
-    public void googleCallback(@RequestParam(value = "code", required = false) String code, HttpServletResponse response) throws IOException {
+    public void googleCallback(@RequestParam(value = "code", required = false) String code,
+                               @RequestParam(value = "state", required = false) String state,
+                               @CookieValue(value = "${app.oauth2.state.cookie-name:oauth_state}", required = false) String stateCookieValue,
+                               HttpServletResponse response) throws IOException {
         // 서버 주도 OAuth2: 콜백에서 Google 코드로 토큰 교환을 완료한 뒤,
         // 브라우저가 프런트(Next API Route)로 cross-origin POST 하도록 자동 제출 폼(HTML) 반환.
         // URL(쿼리/해시)에 토큰을 노출하지 않으며, 프런트 서버가 HttpOnly 쿠키로 보관 가능.
+        // state 쿠키는 성공/실패와 무관하게 1회용이므로 항상 삭제
+        response.addHeader(HttpHeaders.SET_COOKIE, stateCookie("", 0).toString());
         if (code == null || code.trim().isEmpty()) {
             response.sendRedirect(frontendBaseUrl + "/auth/callback?error=missing_code");
             return;
         }
         try {
-            AuthResponse tokens = authService.signInWithGoogle(code);
+            String codeVerifier = oAuthStateService.complete(stateCookieValue, state, code);
+            AuthResponse tokens = authService.signInWithGoogle(code, codeVerifier);
 
             String html = "<!DOCTYPE html>" +
                     "<html><head><meta charset='utf-8'><title>Signing in...</title></head><body>" +
@@ -90,6 +123,10 @@ public class AuthController {
             response.setContentType("text/html; charset=UTF-8");
             response.setContentLength(bytes.length);
             response.getOutputStream().write(bytes);
+        } catch (InvalidOAuthStateException e) {
+            response.sendRedirect(frontendBaseUrl + "/auth/callback?error=invalid_state");
+        } catch (GoogleOAuth2UnavailableException e) {
+            response.sendRedirect(frontendBaseUrl + "/auth/callback?error=provider_unavailable");
         } catch (Exception e) {
             response.sendRedirect(frontendBaseUrl + "/auth/callback?error=auth_failed");
         }
@@ -110,6 +147,73 @@ public class AuthController {
         }
     }
 
+    @Operation(summary = "Client credentials token", description = "Issues a scoped access token to an internal service client (grant_type=client_credentials). Credentials may be sent with HTTP Basic or as form parameters.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Token issued", content = @Content(schema = @Schema(implementation = ClientTokenResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Unsupported grant type or invalid scope"),
+                    @ApiResponse(responseCode = "401", description = "Client authentication failed")
+            })
+    @PostMapping(value = "/token", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    public ResponseEntity<?> clientCredentialsToken(@RequestParam(value = "grant_type", required = false) String grantType,
+                                                    @RequestParam(value = "client_id", required = false) String clientId,
+                                                    @RequestParam(value = "client_secret", required = false) String clientSecret,
+                                                    @RequestParam(value = "scope", required = false) String scope,
+                                                    @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        try {
+            if (!ClientCredentialsService.GRANT_TYPE.equals(grantType)) {
+                throw new ClientCredentialsException(ClientCredentialsException.UNSUPPORTED_GRANT_TYPE, "Only client_credentials is supported");
+            }
+            // RFC 6749 2.3.1: HTTP Basic 인증을 우선 사용하고, 없으면 폼 파라미터 사용
+            if (authorization != null && authorization.startsWith("Basic ")) {
+                String decoded = new String(Base64.getDecoder().decode(authorization.substring(6).trim()), StandardCharsets.UTF_8);
+                int colon = decoded.indexOf(':');
+                if (colon > 0) {
+                    clientId = decoded.substring(0, colon);
+                    clientSecret = decoded.substring(colon + 1);
+                }
+            }
+            ClientTokenResponse token = clientCredentialsService.issue(clientId, clientSecret, scope);
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(token);
+        } catch (ClientCredentialsException e) {
+            HttpStatus status = ClientCredentialsException.INVALID_CLIENT.equals(e.getError())
+                    ? HttpStatus.UNAUTHORIZED : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status).body(Map.of("error", e.getError()));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 Base64 Basic 헤더
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", ClientCredentialsException.INVALID_CLIENT));
+        }
+    }
+
+    @Operation(summary = "Log out everywhere", description = "Revokes every refresh token issued to the authenticated user.",
+            security = @SecurityRequirement(name = "bearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "All refresh tokens revoked"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized or user no longer exists"),
+                    @ApiResponse(responseCode = "403", description = "Not a user token (e.g. service token)")
+            })
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutEverywhere(Authentication authentication) {
+        try {
+            authService.logoutEverywhere(authentication.getName());
+        } catch (RuntimeException e) {
+            // 토큰의 사용자가 더 이상 존재하지 않음
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    // Google에서 돌아오는 최상위 GET 탐색에도 전송되도록 SameSite=Lax
+    private ResponseCookie stateCookie(String value, long maxAgeSeconds) {
+        return ResponseCookie.from(oAuthStateProperties.getCookieName(), value)
+                .httpOnly(true)
+                .secure(oAuthStateProperties.isCookieSecure())
+                .sameSite("Lax")
+                .path(oAuthStateProperties.getCookiePath())
+                .maxAge(maxAgeSeconds)
+                .build();
+    }
+
     // 단순 HTML 이스케이프(속성 값/텍스트에 안전하게 삽입)
     private static String escapeHtml(String input) {
         if (input == null) return "";
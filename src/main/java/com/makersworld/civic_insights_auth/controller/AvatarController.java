@@ -0,0 +1,93 @@
+package com.makersworld.civic_insights_auth.controller;
+
+import com.makersworld.civic_insights_auth.service.AvatarCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로컬 캐시된 아바타 이미지 제공 엔드포인트
+ *
+ * 파일명이 콘텐츠 해시이므로 내용이 바뀌지 않아 immutable 캐시 헤더와 해시 기반 ETag를 사용합니다.
+ * Tomcat sendfile을 지원하면 커넥터가 커널 sendfile로 직접 전송합니다. (사용자 공간 복사 없음)
+ * 그렇지 않으면(HTTPS, 작은 파일, sendfile 비활성 커넥터 등) 응답 스트림으로 복사하며,
+ * 이 경로는 버퍼를 거치므로 제로 카피가 아닙니다.
+ */
+@Tag(name = "Avatar", description = "Cached avatar images")
+@RestController
+@RequestMapping("/api/v1/avatars")
+@RequiredArgsConstructor
+public class AvatarController {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final AvatarCacheService avatarCacheService;
+
+    @Operation(summary = "아바타 이미지 조회", description = "콘텐츠 해시로 저장된 캐시 아바타(PNG)를 반환합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Avatar image"),
+                    @ApiResponse(responseCode = "304", description = "Not modified"),
+                    @ApiResponse(responseCode = "404", description = "Avatar not cached")
+            })
+    @GetMapping("/{fileName}")
+    public void getAvatar(@PathVariable String fileName,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        Path file = avatarCacheService.resolve(fileName);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 콘텐츠 주소 파일명이므로 파일명 자체가 강한 ETag
+        String etag = "\"" + fileName.substring(0, fileName.indexOf('.')) + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || "*".equals(ifNoneMatch.trim()))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            response.setContentType(MediaType.IMAGE_PNG_VALUE);
+            response.setContentLengthLong(size);
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+                // 응답 본문 전송을 Tomcat 커넥터의 sendfile에 위임
+                request.setAttribute(SENDFILE_FILENAME, file.toString());
+                request.setAttribute(SENDFILE_START, 0L);
+                request.setAttribute(SENDFILE_END, size);
+                return;
+            }
+
+            // 대상이 소켓 채널이 아닌 서블릿 스트림이므로 transferTo도 내부 버퍼를 거쳐 복사됨
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+            out.flush();
+        }
+    }
+}
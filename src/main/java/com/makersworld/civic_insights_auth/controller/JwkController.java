@@ -1,21 +1,26 @@
 package com.makersworld.civic_insights_auth.controller;
 
 import com.makersworld.civic_insights_auth.config.JwtKeyProvider;
-import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.security.PublicKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import java.util.Map;
 
 /**
  * JWT 공개키를 JWK(JSON Web Key) 형식으로 제공하는 컨트롤러
  * 클라이언트가 JWT 토큰을 독립적으로 검증할 수 있도록 공개키를 노출합니다.
+ * 리프레시 토큰 서명 키(HS256, kid "rt-*")는 이 서비스 내부 전용이므로 노출하지 않습니다.
  */
 @RestController
 @RequiredArgsConstructor
@@ -24,9 +29,13 @@ public class JwkController {
 
     private final JwtKeyProvider jwtKeyProvider;
 
+    // 공개키가 바뀔 때만 다시 만드는 JWK Set과 ETag
+    private volatile CachedJwks cachedJwks;
+
     /**
      * JWT 검증을 위한 공개키를 JWK 형식으로 제공합니다.
      * 이 엔드포인트는 OAuth2/OpenID Connect 표준을 따라 구현되었습니다.
+     * 키 썸프린트 기반 ETag를 제공하므로 클라이언트는 If-None-Match로 변경 여부만 확인할 수 있습니다. (304)
      * 
      * @return JWK Set JSON 객체
      */
@@ -35,13 +44,35 @@ public class JwkController {
         summary = "JWT 공개키 조회",
         description = "JWT 토큰 검증을 위한 공개키를 JWK(JSON Web Key) 형식으로 반환합니다."
     )
-    public Map<String, Object> getJwks() {
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        CachedJwks jwks = currentJwks();
+        // If-None-Match가 ETag와 일치하면 Spring MVC가 304로 응답
+        return ResponseEntity.ok()
+                .eTag(jwks.etag())
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwks.body());
+    }
+
+    private CachedJwks currentJwks() {
+        PublicKey publicKey = jwtKeyProvider.getPublicKey();
+        CachedJwks jwks = cachedJwks;
+        if (jwks != null && jwks.publicKey() == publicKey) {
+            return jwks;
+        }
         // RSA 공개키를 JWK 형식으로 변환
-        RSAPublicKey publicKey = (RSAPublicKey) jwtKeyProvider.getPublicKey();
-        JWK jwk = new RSAKey.Builder(publicKey)
+        RSAKey jwk = new RSAKey.Builder((RSAPublicKey) publicKey)
                 .keyID("civic-insights-auth-key") // 키 식별자 설정
                 .build();
-        
-        return new JWKSet(jwk).toJSONObject();
+        try {
+            jwks = new CachedJwks(publicKey, new JWKSet(jwk).toJSONObject(),
+                    "\"" + jwk.computeThumbprint() + "\"");
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Failed to compute JWK thumbprint", e);
+        }
+        cachedJwks = jwks;
+        return jwks;
+    }
+
+    private record CachedJwks(PublicKey publicKey, Map<String, Object> body, String etag) {
     }
 } 
\ No newline at end of file
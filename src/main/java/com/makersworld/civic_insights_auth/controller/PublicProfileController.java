@@ -0,0 +1,39 @@
+package com.makersworld.civic_insights_auth.controller;
+
+import com.makersworld.civic_insights_auth.dto.ProfileBatchRequest;
+import com.makersworld.civic_insights_auth.dto.ProfileBatchResponse;
+import com.makersworld.civic_insights_auth.service.PublicProfileService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Profiles", description = "Public profile lookups for list and feed rendering")
+@RestController
+@RequestMapping("/api/v1/profiles")
+@RequiredArgsConstructor
+public class PublicProfileController {
+
+    private final PublicProfileService publicProfileService;
+
+    @Operation(summary = "Batch profile lookup", description = "Resolves public profiles for a list of user IDs and/or emails in one call. Results keep request order and list the IDs that were not found.",
+            security = @SecurityRequirement(name = "bearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Profiles resolved", content = @Content(schema = @Schema(implementation = ProfileBatchResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Too many users requested"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized")
+            })
+    @PostMapping("/batch")
+    public ResponseEntity<ProfileBatchResponse> batch(@RequestBody ProfileBatchRequest request) {
+        try {
+            return ResponseEntity.ok(publicProfileService.lookup(request.getUserIds(), request.getEmails()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
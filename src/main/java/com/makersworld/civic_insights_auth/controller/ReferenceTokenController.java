@@ -0,0 +1,55 @@
+package com.makersworld.civic_insights_auth.controller;
+
+import com.makersworld.civic_insights_auth.service.ReferenceTokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 게이트웨이 전용 참조 토큰 교환 엔드포인트 (phantom token 패턴)
+ *
+ * 게이트웨이는 클라이언트가 보낸 불투명 핸들을 이 엔드포인트로 서명된 JWT로 교환한 뒤
+ * 다운스트림 서비스에 JWT를 전달합니다. 응답은 exchange-cache-max-age(핸들 만료 이내)까지 게이트웨이에서 캐시할 수 있습니다.
+ * INTERNAL 경로이므로 게이트웨이 전용 모드 설정과 무관하게 X-Gateway-Internal 헤더가 검증된 요청만 도달합니다.
+ */
+@Tag(name = "Internal", description = "Gateway-only internal endpoints")
+@RestController
+@RequestMapping("/internal/v1/tokens")
+@RequiredArgsConstructor
+public class ReferenceTokenController {
+
+    private final ReferenceTokenService referenceTokenService;
+
+    @Operation(summary = "참조 토큰 교환", description = "불투명 참조 토큰 핸들을 서명된 JWT로 교환합니다. (게이트웨이 전용)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Exchange successful"),
+                    @ApiResponse(responseCode = "401", description = "Unknown, expired or revoked handle"),
+                    @ApiResponse(responseCode = "403", description = "Not from the gateway"),
+                    @ApiResponse(responseCode = "404", description = "Reference token mode disabled")
+            })
+    @PostMapping("/exchange")
+    public ResponseEntity<Map<String, Object>> exchange(@RequestBody Map<String, String> request) {
+        if (!referenceTokenService.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        String handle = request.get("token");
+        ReferenceTokenService.Exchange exchange = handle == null ? null : referenceTokenService.exchange(handle);
+        if (exchange == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(exchange.cacheMaxAge())).cachePrivate())
+                .body(Map.of(
+                        "access_token", exchange.accessToken(),
+                        "token_type", "Bearer",
+                        "expires_in", exchange.expiresIn()
+                ));
+    }
+}
@@ -0,0 +1,93 @@
+package com.makersworld.civic_insights_auth.controller;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 빌드 시 생성된 OpenAPI 문서를 정적으로 제공하는 컨트롤러
+ *
+ * 런타임 springdoc 스캔을 끈 프로필(springdoc.api-docs.enabled=false, 운영/fast-start)에서만 등록되며,
+ * ./gradlew bootJar 가 jar에 넣은 META-INF/openapi/openapi.json(.gz)을 기동 시 한 번 읽어 둡니다.
+ * 클라이언트가 gzip을 허용하면 미리 압축된 본문을 그대로 보내고, 내용 해시 ETag로 304를 지원합니다.
+ */
+@Slf4j
+@Hidden
+@RestController
+@ConditionalOnProperty(prefix = "springdoc.api-docs", name = "enabled", havingValue = "false")
+public class StaticOpenApiController {
+
+    static final String DOCUMENT_LOCATION = "META-INF/openapi/openapi.json";
+
+    private byte[] json;
+    private byte[] gzip;
+    private String etag;
+
+    @PostConstruct
+    public void load() throws IOException {
+        ClassPathResource document = new ClassPathResource(DOCUMENT_LOCATION);
+        if (!document.exists()) {
+            log.warn("{} not found on the classpath; /v3/api-docs will return 404 (build with ./gradlew bootJar)",
+                    DOCUMENT_LOCATION);
+            return;
+        }
+        json = read(document);
+        ClassPathResource compressed = new ClassPathResource(DOCUMENT_LOCATION + ".gz");
+        gzip = compressed.exists() ? read(compressed) : null;
+        etag = "\"" + sha256Hex(json).substring(0, 32) + "\"";
+    }
+
+    @GetMapping("${springdoc.api-docs.path:/v3/api-docs}")
+    public void getApiDocs(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (json == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=300");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || "*".equals(ifNoneMatch.trim()))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = json;
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            body = gzip;
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] read(ClassPathResource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String sha256Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.makersworld.civic_insights_auth.controller;
+
+import com.makersworld.civic_insights_auth.dto.UserSearchResponse;
+import com.makersworld.civic_insights_auth.service.UserDirectoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Admin", description = "User directory search for administrators and internal services")
+@RestController
+@RequestMapping("/api/v1/admin/users")
+@RequiredArgsConstructor
+public class UserDirectoryController {
+
+    private final UserDirectoryService userDirectoryService;
+
+    @Operation(summary = "Search users", description = "Searches users by name, email prefix, location and bio. Results are ranked by match quality and paged. Requires the ADMIN role or a service token with the users:search scope.",
+            security = @SecurityRequirement(name = "bearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Search results", content = @Content(schema = @Schema(implementation = UserSearchResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "Query too short or invalid paging"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+                    @ApiResponse(responseCode = "403", description = "Not an administrator or a service client with the users:search scope")
+            })
+    @GetMapping("/search")
+    public ResponseEntity<UserSearchResponse> search(@RequestParam("q") String query,
+                                                     @RequestParam(value = "page", defaultValue = "0") int page,
+                                                     @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(userDirectoryService.search(query, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
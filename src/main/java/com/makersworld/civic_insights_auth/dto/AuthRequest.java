@@ -5,4 +5,7 @@ import lombok.Data;
 @Data
 public class AuthRequest {
     private String code;
+
+    // 클라이언트가 인가 요청에 PKCE 챌린지를 보낸 경우의 code_verifier (선택)
+    private String codeVerifier;
 } 
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.makersworld.civic_insights_auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * client_credentials 토큰 응답 (RFC 6749 형식의 snake_case 필드)
+ */
+@Data
+@AllArgsConstructor
+public class ClientTokenResponse {
+    @JsonProperty("access_token")
+    private String accessToken;
+
+    @JsonProperty("token_type")
+    private String tokenType;
+
+    @JsonProperty("expires_in")
+    private long expiresIn;
+
+    private String scope;
+}
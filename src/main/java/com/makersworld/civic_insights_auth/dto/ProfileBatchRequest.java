@@ -0,0 +1,14 @@
+package com.makersworld.civic_insights_auth.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ProfileBatchRequest {
+    // 조회할 사용자 ID 목록 (요청 순서대로 응답)
+    private List<Long> userIds;
+
+    // 조회할 사용자 이메일 목록 (userIds 다음 순서로 응답)
+    private List<String> emails;
+}
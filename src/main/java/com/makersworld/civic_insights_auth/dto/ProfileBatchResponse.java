@@ -0,0 +1,21 @@
+package com.makersworld.civic_insights_auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileBatchResponse {
+    // 찾은 프로필 (요청 순서 유지: userIds 다음 emails)
+    private List<PublicProfileDto> profiles;
+
+    // 찾지 못한 사용자 ID
+    private List<Long> missingUserIds;
+
+    // 찾지 못한 이메일 (앞뒤 공백 제거, 소문자로 정규화)
+    private List<String> missingEmails;
+}
@@ -0,0 +1,7 @@
+package com.makersworld.civic_insights_auth.dto;
+
+/**
+ * 일괄 프로필 조회용 users + user_profiles 조인 프로젝션 (필요한 컬럼만 조회)
+ */
+public record ProfileSummary(Long userId, String email, String name, String avatarUrl, String location) {
+}
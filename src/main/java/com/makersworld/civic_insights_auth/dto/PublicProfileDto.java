@@ -0,0 +1,20 @@
+package com.makersworld.civic_insights_auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 목록/피드 렌더링용 공개 프로필 (이메일, 전화번호 등 비공개 항목 제외)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicProfileDto {
+    private Long userId;
+    private String name;
+    private String avatarUrl;
+    private String location;
+}
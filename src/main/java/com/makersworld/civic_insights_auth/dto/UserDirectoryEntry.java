@@ -0,0 +1,7 @@
+package com.makersworld.civic_insights_auth.dto;
+
+/**
+ * 사용자 디렉터리 색인 항목 (users + user_profiles 조인 프로젝션, 검색 대상 컬럼만 조회)
+ */
+public record UserDirectoryEntry(Long userId, String email, String name, String location, String bio) {
+}
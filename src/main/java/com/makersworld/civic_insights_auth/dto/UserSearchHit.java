@@ -0,0 +1,23 @@
+package com.makersworld.civic_insights_auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 디렉터리 검색 결과 항목
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchHit {
+    private Long userId;
+    private String email;
+    private String name;
+    private String location;
+
+    // 필드별 일치 종류(완전/접두사/부분)와 필드 가중치로 계산한 점수 (높을수록 우선)
+    private int score;
+}
@@ -0,0 +1,25 @@
+package com.makersworld.civic_insights_auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchResponse {
+    private String query;
+
+    // 0부터 시작하는 페이지 번호
+    private int page;
+
+    private int size;
+
+    // 일치한 전체 사용자 수
+    private long total;
+
+    // 점수 내림차순, 같은 점수는 이름/ID 순
+    private List<UserSearchHit> results;
+}
@@ -0,0 +1,53 @@
+package com.makersworld.civic_insights_auth.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.sql.Timestamp;
+
+/**
+ * 불투명 참조 토큰 핸들과 클레임의 매핑 (메모리 테이블의 DB 백업)
+ * 핸들 원문은 저장하지 않고 SHA-256 해시만 저장합니다.
+ */
+@Entity
+@Table(name = "reference_tokens")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReferenceToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String handleHash;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(nullable = false)
+    private String role;
+
+    // 발급 시점의 사용자 보안 버전 (전체 로그아웃으로 버전이 오르면 교환 거부)
+    @Column(nullable = false)
+    private int tokenVersion;
+
+    @Column(nullable = false)
+    private Timestamp expiresAt;
+
+    @CreationTimestamp
+    private Timestamp createdAt;
+
+    @Builder
+    public ReferenceToken(String handleHash, String email, String role, int tokenVersion, Timestamp expiresAt) {
+        this.handleHash = handleHash;
+        this.email = email;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+        this.expiresAt = expiresAt;
+    }
+}
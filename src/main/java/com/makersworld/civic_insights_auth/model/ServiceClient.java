@@ -0,0 +1,59 @@
+package com.makersworld.civic_insights_auth.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.sql.Timestamp;
+
+/**
+ * client_credentials 그랜트로 토큰을 받는 내부 서비스/배치 클라이언트
+ * 시크릿 원문은 저장하지 않고 BCrypt 해시만 저장합니다.
+ */
+@Entity
+@Table(name = "service_clients")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ServiceClient {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String clientId;
+
+    @Column(nullable = false, length = 100)
+    private String secretHash;
+
+    @Column(nullable = false)
+    private String name;
+
+    // 허용된 스코프 (공백 구분)
+    @Column(nullable = false, length = 1000)
+    private String scopes;
+
+    @ColumnDefault("true")
+    @Column(nullable = false)
+    private boolean enabled;
+
+    @CreationTimestamp
+    private Timestamp createdAt;
+
+    @UpdateTimestamp
+    private Timestamp updatedAt;
+
+    @Builder
+    public ServiceClient(String clientId, String secretHash, String name, String scopes, boolean enabled) {
+        this.clientId = clientId;
+        this.secretHash = secretHash;
+        this.name = name;
+        this.scopes = scopes;
+        this.enabled = enabled;
+    }
+}
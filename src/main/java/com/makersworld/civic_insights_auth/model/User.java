@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -38,6 +39,11 @@ public class User {
     @Column(nullable = false)
     private String role;
 
+    // 사용자 보안 버전: 전체 로그아웃 시 증가하여 이전 리프레시 토큰을 무효화
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int tokenVersion;
+
     @CreationTimestamp
     private Timestamp createdAt;
 
@@ -0,0 +1,25 @@
+package com.makersworld.civic_insights_auth.repository;
+
+import com.makersworld.civic_insights_auth.model.ReferenceToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+
+public interface ReferenceTokenRepository extends JpaRepository<ReferenceToken, Long> {
+    Optional<ReferenceToken> findByHandleHash(String handleHash);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ReferenceToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") Timestamp now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ReferenceToken t where t.email = :email")
+    int deleteByEmail(@Param("email") String email);
+}
@@ -0,0 +1,10 @@
+package com.makersworld.civic_insights_auth.repository;
+
+import com.makersworld.civic_insights_auth.model.ServiceClient;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ServiceClientRepository extends JpaRepository<ServiceClient, Long> {
+    Optional<ServiceClient> findByClientId(String clientId);
+}
@@ -1,11 +1,27 @@
 package com.makersworld.civic_insights_auth.repository;
 
+import com.makersworld.civic_insights_auth.dto.ProfileSummary;
 import com.makersworld.civic_insights_auth.model.UserProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
     Optional<UserProfile> findByUserId(Long userId);
     Optional<UserProfile> findByUserEmail(String email);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.makersworld.civic_insights_auth.dto.ProfileSummary(u.id, u.email, u.name, p.avatarUrl, p.location) " +
+            "from UserProfile p join p.user u where u.id in :userIds")
+    List<ProfileSummary> findSummariesByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.makersworld.civic_insights_auth.dto.ProfileSummary(u.id, u.email, u.name, p.avatarUrl, p.location) " +
+            "from UserProfile p join p.user u where u.email in :emails")
+    List<ProfileSummary> findSummariesByEmails(@Param("emails") Collection<String> emails);
 } 
\ No newline at end of file
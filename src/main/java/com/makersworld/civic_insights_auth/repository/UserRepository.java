@@ -1,10 +1,35 @@
 package com.makersworld.civic_insights_auth.repository;
 
+import com.makersworld.civic_insights_auth.dto.UserDirectoryEntry;
 import com.makersworld.civic_insights_auth.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
-}
\ No newline at end of file
+
+    // 선언한 쿼리 메서드에는 기본 트랜잭션이 없으므로 읽기 전용을 명시해야 복제본으로 라우팅됨
+    @Transactional(readOnly = true)
+    @Query("select u.tokenVersion from User u where u.email = :email")
+    Optional<Integer> findTokenVersionByEmail(@Param("email") String email);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.tokenVersion = u.tokenVersion + 1 where u.email = :email")
+    int incrementTokenVersion(@Param("email") String email);
+
+    @Transactional(readOnly = true)
+    @Query("select coalesce(max(u.id), 0) from User u")
+    long findMaxId();
+
+    @Transactional(readOnly = true)
+    @Query("select new com.makersworld.civic_insights_auth.dto.UserDirectoryEntry(u.id, u.email, u.name, p.location, p.bio) " +
+            "from User u left join UserProfile p on p.user = u where u.id between :fromId and :toId")
+    List<UserDirectoryEntry> findDirectoryEntries(@Param("fromId") long fromId, @Param("toId") long toId);
+}
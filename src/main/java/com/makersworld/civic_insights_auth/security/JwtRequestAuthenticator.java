@@ -0,0 +1,111 @@
+package com.makersworld.civic_insights_auth.security;
+
+import com.makersworld.civic_insights_auth.service.JwtService;
+import com.makersworld.civic_insights_auth.service.JwtTokenMinter;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bearer JWT로 요청을 인증하는 컴포넌트
+ * RSA 비대칭키를 사용하여 토큰을 검증합니다.
+ *
+ * 서명/만료 검증과 클레임 추출을 한 번의 파싱으로 처리합니다.
+ * 그 전에 구조 검사(TokenPrecheck)로 잘못된/만료된 토큰을 RSA 검증 없이 거부합니다.
+ * 인증이 필요한 경로에서만 PreAuthenticationFilter가 호출합니다.
+ */
+@Slf4j
+@Component
+public class JwtRequestAuthenticator {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    // 상태가 없으므로 요청마다 생성하지 않고 공유
+    private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+
+    private final JwtService jwtService;
+    private final TokenPrecheck tokenPrecheck;
+
+    // 역할/스코프 클레임 -> 권한 목록 (조합 수가 적으므로 요청마다 만들지 않고 공유)
+    private final Map<String, List<GrantedAuthority>> authoritiesByClaims = new ConcurrentHashMap<>();
+
+    public JwtRequestAuthenticator(JwtService jwtService, MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.tokenPrecheck = new TokenPrecheck(JwtTokenMinter.RS256_HEADER_JSON, meterRegistry);
+    }
+
+    /**
+     * Authorization 헤더의 Bearer 토큰이 유효하면 보안 컨텍스트에 인증 정보를 설정합니다.
+     * 토큰이 없거나 유효하지 않으면 인증 없이 진행합니다. (접근 거부는 인가 단계에서 처리)
+     * @param request HTTP 요청
+     */
+    public void authenticate(HttpServletRequest request) {
+        final String authHeader = request.getHeader("Authorization");
+
+        // Authorization 헤더가 없거나 Bearer로 시작하지 않으면 인증 없이 진행
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return;
+        }
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            return;
+        }
+
+        // 구조/만료 사전 검사: 헤더 문자열을 자르지 않고 검사하여 쓰레기 토큰은 할당/암호 연산 없이 거부
+        TokenPrecheck.Rejection rejection = tokenPrecheck.check(authHeader, BEARER_PREFIX.length(),
+                System.currentTimeMillis() / 1000);
+        if (rejection != null) {
+            log.debug("JWT 토큰 사전 검사 실패: {}", rejection);
+            return;
+        }
+
+        // 서명/만료 검증과 클레임 추출을 한 번에 수행
+        Claims claims = jwtService.parseVerifiedClaims(authHeader.substring(BEARER_PREFIX.length()));
+        if (claims == null || claims.getSubject() == null) {
+            log.debug("JWT 토큰 검증 실패: 유효하지 않은 토큰");
+            return;
+        }
+
+        String userEmail = claims.getSubject();
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                userEmail, null, authorities(claims.get("role", String.class), claims.get("scope", String.class))
+        );
+        authToken.setDetails(DETAILS_SOURCE.buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+
+        log.debug("JWT 토큰 인증 성공: {}", userEmail);
+    }
+
+    // role 클레임은 ROLE_{role}, 공백으로 구분된 scope 클레임(서비스 토큰)은 SCOPE_{scope} 권한으로 변환
+    private List<GrantedAuthority> authorities(String role, String scope) {
+        if (role == null && scope == null) {
+            return AuthorityUtils.NO_AUTHORITIES;
+        }
+        String key = scope == null ? role : role + '\n' + scope;
+        return authoritiesByClaims.computeIfAbsent(key, k -> {
+            List<String> names = new ArrayList<>();
+            if (role != null) {
+                names.add("ROLE_" + role);
+            }
+            if (scope != null) {
+                for (String granted : scope.trim().split("\\s+")) {
+                    if (!granted.isEmpty()) {
+                        names.add("SCOPE_" + granted);
+                    }
+                }
+            }
+            return AuthorityUtils.createAuthorityList(names);
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.makersworld.civic_insights_auth.security;
+
+import com.makersworld.civic_insights_auth.config.GatewayAccessVerifier;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * 게이트웨이 검증과 JWT 인증을 하나로 합친 사전 인증 필터
+ *
+ * 빈으로 등록하지 않고 SecurityConfig에서 생성하여 보안 필터 체인에만 한 번 추가합니다.
+ * (빈으로 등록하면 Spring Boot가 서블릿 필터로도 등록하여 요청마다 두 번 실행됨)
+ * 라우트 테이블 분류에 따라 필요한 검증만 수행합니다.
+ */
+@RequiredArgsConstructor
+public class PreAuthenticationFilter extends OncePerRequestFilter {
+
+    private final RouteTable routeTable;
+    private final GatewayAccessVerifier gatewayAccessVerifier;
+    private final JwtRequestAuthenticator jwtRequestAuthenticator;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RouteTable.RouteClass routeClass = routeTable.classify(path);
+
+        // 내부 경로는 게이트웨이 전용 모드가 꺼져 있어도 검증 (fail closed)
+        if (routeClass == RouteTable.RouteClass.INTERNAL
+                || (routeClass != RouteTable.RouteClass.PUBLIC && gatewayAccessVerifier.isEnabled())) {
+            String rejection = gatewayAccessVerifier.rejectionReason(request);
+            if (rejection != null) {
+                sendForbiddenResponse(response, rejection);
+                return;
+            }
+        }
+
+        if (routeClass == RouteTable.RouteClass.AUTHENTICATED) {
+            jwtRequestAuthenticator.authenticate(request);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 403 Forbidden 응답 전송
+     */
+    private void sendForbiddenResponse(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        String jsonResponse = String.format(
+            "{\"error\":\"Forbidden\",\"message\":\"%s\",\"status\":403,\"timestamp\":\"%s\"}",
+            message,
+            Instant.now().toString()
+        );
+
+        response.getWriter().write(jsonResponse);
+        response.getWriter().flush();
+    }
+}
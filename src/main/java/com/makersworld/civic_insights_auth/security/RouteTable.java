@@ -0,0 +1,86 @@
+package com.makersworld.civic_insights_auth.security;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 요청 경로별 사전 인증 처리 분류 테이블
+ *
+ * 기동 시 한 번 구성된 정확 일치 집합과 접두사 목록으로 경로를 분류하여,
+ * 게이트웨이 검증과 JWT 파싱을 필요한 경로에서만 수행하도록 합니다.
+ * SecurityConfig의 permitAll/authenticated 규칙과 함께 유지해야 합니다.
+ */
+public final class RouteTable {
+
+    /**
+     * 경로 분류
+     */
+    public enum RouteClass {
+        /** 게이트웨이 검증과 JWT 인증 모두 생략 (헬스체크, JWK 등) */
+        PUBLIC,
+        /** 게이트웨이 검증만 수행 (permitAll 경로) */
+        GATEWAY_ONLY,
+        /** 게이트웨이 검증 후 JWT 인증 수행 */
+        AUTHENTICATED,
+        /** 게이트웨이 전용 모드가 꺼져 있어도 항상 게이트웨이 검증 (내부 엔드포인트, 실패 시 거부) */
+        INTERNAL
+    }
+
+    private final List<Rule> rules;
+
+    private RouteTable(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * 이 서비스의 기본 라우트 테이블 (위에서부터 먼저 일치하는 규칙 적용, 일치하지 않으면 AUTHENTICATED)
+     */
+    public static RouteTable defaults() {
+        return new RouteTable(List.of(
+                // 게이트웨이 검증 우회 경로
+                Rule.prefix(RouteClass.PUBLIC, "/actuator/health"),
+                Rule.exact(RouteClass.PUBLIC, "/error", "/.well-known/jwks.json"),
+                // /api/v1/auth/** 중 유일하게 인증이 필요한 엔드포인트
+                Rule.exact(RouteClass.AUTHENTICATED, "/api/v1/auth/logout-all"),
+                Rule.prefix(RouteClass.GATEWAY_ONLY,
+                        "/api/v1/auth/", "/api/v1/avatars/", "/swagger-ui/", "/v3/api-docs"),
+                Rule.exact(RouteClass.GATEWAY_ONLY, "/swagger-ui.html"),
+                Rule.prefix(RouteClass.INTERNAL, "/internal/")
+        ));
+    }
+
+    /**
+     * 요청 경로(컨텍스트 경로 제외)를 분류합니다.
+     */
+    public RouteClass classify(String path) {
+        for (Rule rule : rules) {
+            if (rule.matches(path)) {
+                return rule.routeClass();
+            }
+        }
+        return RouteClass.AUTHENTICATED;
+    }
+
+    private record Rule(RouteClass routeClass, Set<String> exactPaths, List<String> prefixes) {
+
+        static Rule exact(RouteClass routeClass, String... paths) {
+            return new Rule(routeClass, Set.of(paths), List.of());
+        }
+
+        static Rule prefix(RouteClass routeClass, String... prefixes) {
+            return new Rule(routeClass, Set.of(), List.of(prefixes));
+        }
+
+        boolean matches(String path) {
+            if (exactPaths.contains(path)) {
+                return true;
+            }
+            for (String prefix : prefixes) {
+                if (path.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.makersworld.civic_insights_auth.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 서명 검증 전에 명백히 잘못되었거나 만료된 액세스 토큰을 걸러내는 구조 검사기
+ *
+ * 길이, 세 구간 구조, Base64URL 문자 집합, 헤더(alg)와 검증되지 않은 페이로드의 exp만 확인하며,
+ * 문자열을 잘라내거나 디코딩 버퍼를 만들지 않으므로 객체를 할당하지 않습니다.
+ * 스캐너가 보내는 쓰레기 토큰이나 만료 토큰은 RSA 검증과 예외 스택 생성 없이 거부됩니다.
+ * 통과는 서명이 유효하다는 의미가 아니며, 통과한 토큰은 반드시 서명 검증을 거쳐야 합니다.
+ */
+public class TokenPrecheck {
+
+    /**
+     * 거부 사유
+     */
+    public enum Rejection {
+        /** 길이가 허용 범위를 벗어남 */
+        LENGTH,
+        /** 헤더.페이로드.서명 세 구간이 아님 */
+        SEGMENTS,
+        /** Base64URL 이외의 문자 포함 */
+        ALPHABET,
+        /** 예상한 서명 알고리즘 헤더가 아님 */
+        HEADER,
+        /** 페이로드에서 exp를 읽을 수 없음 */
+        PAYLOAD,
+        /** 만료됨 */
+        EXPIRED
+    }
+
+    // RS256 서명(2048비트 이상)만으로 342자이므로 이보다 짧으면 유효한 토큰일 수 없음
+    static final int MIN_LENGTH = 400;
+    static final int MAX_LENGTH = 4096;
+
+    private static final byte[] EXP_KEY = "\"exp\":".getBytes(StandardCharsets.US_ASCII);
+    private static final int[] DECODE = new int[128];
+
+    static {
+        Arrays.fill(DECODE, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private final String encodedHeader;
+    private final Map<Rejection, Counter> rejections = new EnumMap<>(Rejection.class);
+
+    /**
+     * @param headerJson 허용하는 JOSE 헤더 JSON (발급기가 쓰는 헤더와 바이트 단위로 같아야 함)
+     * @param meterRegistry 거부 사유별 카운터(auth.token.precheck.rejected)를 등록할 레지스트리
+     */
+    public TokenPrecheck(String headerJson, MeterRegistry meterRegistry) {
+        this.encodedHeader = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(headerJson.getBytes(StandardCharsets.UTF_8));
+        for (Rejection rejection : Rejection.values()) {
+            rejections.put(rejection, Counter.builder("auth.token.precheck.rejected")
+                    .description("Bearer tokens rejected before signature verification")
+                    .tag("reason", rejection.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * value[offset..]의 토큰을 검사합니다. (Authorization 헤더에서 부분 문자열을 만들지 않고 검사)
+     * @param value 토큰을 포함한 문자열
+     * @param offset 토큰 시작 위치
+     * @param nowSeconds 현재 시각 (초)
+     * @return 거부 사유, 통과하면 null
+     */
+    public Rejection check(String value, int offset, long nowSeconds) {
+        Rejection rejection = inspect(value, offset, nowSeconds);
+        if (rejection != null) {
+            rejections.get(rejection).increment();
+        }
+        return rejection;
+    }
+
+    private Rejection inspect(String value, int offset, long nowSeconds) {
+        int end = value.length();
+        int length = end - offset;
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return Rejection.LENGTH;
+        }
+
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = offset; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    return Rejection.SEGMENTS;
+                }
+            } else if (c >= 128 || DECODE[c] < 0) {
+                return Rejection.ALPHABET;
+            }
+        }
+        if (secondDot < 0 || firstDot == offset || secondDot == firstDot + 1 || secondDot == end - 1) {
+            return Rejection.SEGMENTS;
+        }
+
+        if (firstDot - offset != encodedHeader.length()
+                || !value.regionMatches(offset, encodedHeader, 0, encodedHeader.length())) {
+            return Rejection.HEADER;
+        }
+
+        long exp = readExp(value, firstDot + 1, secondDot);
+        if (exp < 0) {
+            return Rejection.PAYLOAD;
+        }
+        if (exp <= nowSeconds) {
+            return Rejection.EXPIRED;
+        }
+        return null;
+    }
+
+    /**
+     * Base64URL 페이로드를 4자(3바이트) 단위로 디코딩하면서 "exp": 뒤의 숫자를 읽습니다.
+     * @return exp 값, 찾지 못하면 -1
+     */
+    private static long readExp(String value, int start, int end) {
+        int matched = 0;
+        boolean inNumber = false;
+        long exp = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = start; i < end; i++) {
+            bits = (bits << 6) | DECODE[value.charAt(i)];
+            bitCount += 6;
+            if (bitCount < 8) {
+                continue;
+            }
+            bitCount -= 8;
+            int b = (bits >> bitCount) & 0xFF;
+
+            if (inNumber) {
+                if (b >= '0' && b <= '9') {
+                    exp = exp * 10 + (b - '0');
+                    if (exp > 1L << 40) {
+                        return -1;
+                    }
+                    continue;
+                }
+                return exp;
+            }
+            if (matched == EXP_KEY.length) {
+                if (b == ' ') {
+                    continue;
+                }
+                if (b < '0' || b > '9') {
+                    return -1;
+                }
+                inNumber = true;
+                exp = b - '0';
+                continue;
+            }
+            if (b == EXP_KEY[matched]) {
+                matched++;
+            } else {
+                matched = b == EXP_KEY[0] ? 1 : 0;
+            }
+        }
+        // 페이로드가 숫자로 끝나는 경우는 올바른 JSON이 아님
+        return -1;
+    }
+}
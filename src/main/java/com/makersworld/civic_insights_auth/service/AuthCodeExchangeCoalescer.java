@@ -0,0 +1,128 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.CodeExchangeProperties;
+import com.makersworld.civic_insights_auth.dto.AuthResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 Google 인가 코드에 대한 중복 교환 요청을 하나로 합치는 컴포넌트 (single-flight)
+ *
+ * 브라우저의 콜백 재시도나 SPA의 이중 제출로 같은 코드가 여러 번 들어오면,
+ * Google 코드는 1회용이므로 두 번째 교환은 실패합니다.
+ * 진행 중인 교환은 Future를 공유하고, 완료된 결과는 짧은 TTL 동안 캐시하여
+ * 중복 요청이 하나의 교환 결과(동일한 토큰)를 받도록 합니다.
+ * 코드 원문은 보관하지 않고 코드와 PKCE 검증자의 SHA-256 해시를 키로 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthCodeExchangeCoalescer {
+
+    private final CodeExchangeProperties properties;
+
+    private final Map<String, CompletableFuture<AuthResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CompletedExchange> completed = new ConcurrentHashMap<>();
+    private volatile long lastSweepAt = System.currentTimeMillis();
+
+    /**
+     * 인가 코드 교환을 수행하되, 같은 코드/검증자의 진행 중/최근 완료된 교환이 있으면 그 결과를 공유합니다.
+     * PKCE code_verifier도 키에 포함하므로, 코드를 가로챈 쪽이 검증자 없이(또는 다른 검증자로)
+     * 같은 코드를 보내도 선행 요청의 토큰을 받을 수 없고 Google 교환에서 거부됩니다.
+     * @param code Google 인가 코드
+     * @param codeVerifier PKCE code_verifier (PKCE를 사용하지 않으면 null)
+     * @param exchange 실제 교환 및 로그인 처리
+     * @return 로그인 결과
+     */
+    public AuthResponse exchange(String code, String codeVerifier, Supplier<AuthResponse> exchange) {
+        if (!properties.isCoalescingEnabled()) {
+            return exchange.get();
+        }
+
+        long now = System.currentTimeMillis();
+        sweepExpired(now);
+
+        String key = hash(code, codeVerifier);
+        AuthResponse recent = recentResult(key, now);
+        if (recent != null) {
+            log.debug("Reusing recently completed code exchange");
+            return recent;
+        }
+
+        CompletableFuture<AuthResponse> mine = new CompletableFuture<>();
+        CompletableFuture<AuthResponse> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            log.debug("Joining in-flight code exchange");
+            return await(existing);
+        }
+
+        try {
+            // 선행 요청이 방금 완료되어 in-flight에서 빠진 직후일 수 있으므로 한 번 더 확인
+            AuthResponse response = recentResult(key, now);
+            if (response == null) {
+                response = exchange.get();
+                // in-flight 제거 전에 결과를 먼저 기록해야 뒤늦게 도착한 중복 요청이 결과를 찾을 수 있음
+                completed.put(key, new CompletedExchange(response,
+                        System.currentTimeMillis() + properties.getResultTtl().toMillis()));
+            }
+            mine.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private AuthResponse recentResult(String key, long now) {
+        CompletedExchange done = completed.get(key);
+        return done != null && done.expiresAt() > now ? done.response() : null;
+    }
+
+    private static AuthResponse await(CompletableFuture<AuthResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 선행 요청과 동일한 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 만료된 결과는 TTL 주기마다 한 번씩 정리
+    private void sweepExpired(long now) {
+        if (now - lastSweepAt < properties.getResultTtl().toMillis()) {
+            return;
+        }
+        lastSweepAt = now;
+        completed.values().removeIf(done -> done.expiresAt() <= now);
+    }
+
+    // 코드와 검증자를 구분자(\0)로 이어 해시 (검증자가 없으면 코드만)
+    private static String hash(String code, String codeVerifier) {
+        String material = codeVerifier == null ? code : code + '\0' + codeVerifier;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(material.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CompletedExchange(AuthResponse response, long expiresAt) {
+    }
+}
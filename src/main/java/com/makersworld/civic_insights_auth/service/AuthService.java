@@ -1,14 +1,20 @@
 package com.makersworld.civic_insights_auth.service;
 
+import com.makersworld.civic_insights_auth.config.ReadYourWritesTracker;
 import com.makersworld.civic_insights_auth.dto.AuthResponse;
 import com.makersworld.civic_insights_auth.dto.GoogleUserInfoResponse;
 import com.makersworld.civic_insights_auth.model.User;
 import com.makersworld.civic_insights_auth.model.UserProfile;
 import com.makersworld.civic_insights_auth.repository.UserRepository;
 import com.makersworld.civic_insights_auth.repository.UserProfileRepository;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -18,57 +24,117 @@ public class AuthService {
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
     private final JwtService jwtService;
+    private final AuthCodeExchangeCoalescer authCodeExchangeCoalescer;
+    private final TransactionTemplate transactionTemplate;
+    private final ReferenceTokenService referenceTokenService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AvatarCacheService avatarCacheService;
+    private final PublicProfileService publicProfileService;
+    private final UserDirectoryService userDirectoryService;
+    private final MeterRegistry meterRegistry;
 
-    public String getGoogleAuthorizationUrl() {
-        return googleOAuth2Service.buildGoogleAuthorizationUrl();
+    public String getGoogleAuthorizationUrl(String state, String codeChallenge) {
+        return googleOAuth2Service.buildGoogleAuthorizationUrl(state, codeChallenge);
     }
 
-    @Transactional
     public AuthResponse signInWithGoogle(String code) {
-        // 1. Get Google user info
-        String accessToken = googleOAuth2Service.getAccessToken(code);
+        return signInWithGoogle(code, null);
+    }
+
+    /**
+     * 인가 코드로 로그인합니다.
+     * @param code Google 인가 코드
+     * @param codeVerifier 인가 요청에 PKCE 챌린지를 보냈다면 그 code_verifier, 아니면 null
+     */
+    public AuthResponse signInWithGoogle(String code, String codeVerifier) {
+        // 같은 인가 코드/검증자의 중복 요청은 하나의 교환 결과를 공유 (Google 코드는 1회용)
+        return authCodeExchangeCoalescer.exchange(code, codeVerifier, () -> exchangeCodeAndSignIn(code, codeVerifier));
+    }
+
+    private AuthResponse exchangeCodeAndSignIn(String code, String codeVerifier) {
+        // 1. Get Google user info (트랜잭션 밖: Google 응답을 기다리는 동안 DB 커넥션을 잡지 않음)
+        String accessToken = googleOAuth2Service.getAccessToken(code, codeVerifier);
         GoogleUserInfoResponse userInfo = googleOAuth2Service.getUserInfo(accessToken);
-        
-        // 2. Sync Google user info to our DB
-        boolean isNewUser = userRepository.findByEmail(userInfo.getEmail()).isEmpty();
-        
-        User user = userRepository.findByEmail(userInfo.getEmail())
-               .map(existingUser -> {
+
+        // 2. Sync Google user info to our DB (사용자/프로필 upsert만 짧은 트랜잭션으로 실행)
+        SyncedUser synced = syncUser(userInfo);
+        User user = synced.user();
+
+        // 3. 커밋 이후 처리
+        if (synced.isNewUser()) {
+            // 가입 직후 프로필 조회는 복제 지연과 무관하게 프라이머리에서 읽도록 고정
+            readYourWritesTracker.markWrite(user.getEmail());
+        }
+        // 가입/이름 변경이 일괄 프로필 조회 캐시(없는 사용자 포함)에 바로 반영되도록 제거
+        publicProfileService.evict(user.getId(), user.getEmail());
+        // 가입/이름 변경을 디렉터리 검색 색인에 반영
+        userDirectoryService.indexUser(user.getId(), user.getEmail(), user.getName());
+        // 로그인 후 Google 프로필 사진을 백그라운드에서 로컬 캐시로 가져옴 (이미 캐시된 경우 무시)
+        avatarCacheService.requestFetch(userInfo.getPicture());
+
+        // 4. Generate JWT tokens and return response
+        tokenVersionRegistry.remember(user.getEmail(), user.getTokenVersion());
+        return issueTokens(user.getEmail(), user.getName(), user.getRole(), user.getTokenVersion());
+    }
+
+    // 트랜잭션 시작부터 커밋까지(커넥션 점유 시간)를 auth.signin.connection.hold 로 기록
+    private SyncedUser syncUser(GoogleUserInfoResponse userInfo) {
+        long start = System.nanoTime();
+        try {
+            return transactionTemplate.execute(status -> upsertUser(userInfo));
+        } finally {
+            Timer.builder("auth.signin.connection.hold")
+                    .description("Time a database connection is held by the sign-in user upsert")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private SyncedUser upsertUser(GoogleUserInfoResponse userInfo) {
+        return userRepository.findByEmail(userInfo.getEmail())
+                .map(existingUser -> {
                     // Update name for existing user
                     existingUser.updateName(userInfo.getName());
-                    return userRepository.save(existingUser);
+                    return new SyncedUser(userRepository.save(existingUser), false);
                 })
-               .orElseGet(() -> {
-                    // Save new user to DB
-                    return userRepository.save(User.builder()
-                           .email(userInfo.getEmail())
-                           .name(userInfo.getName())
-                           .provider("GOOGLE")
-                           .providerId(userInfo.getId())
-                           .role("USER")
-                           .build());
+                .orElseGet(() -> {
+                    // Save new user to DB, then create user profile with Google data
+                    User user = userRepository.save(User.builder()
+                            .email(userInfo.getEmail())
+                            .name(userInfo.getName())
+                            .provider("GOOGLE")
+                            .providerId(userInfo.getId())
+                            .role("USER")
+                            .build());
+                    createUserProfileFromGoogle(user, userInfo);
+                    return new SyncedUser(user, true);
                 });
+    }
 
-        // 3. Create user profile for new users with Google data
-        if (isNewUser) {
-            createUserProfileFromGoogle(user, userInfo);
-        }
+    private AuthResponse issueTokens(String email, String name, String role, int tokenVersion) {
+        String accessToken = issueAccessToken(email, role, tokenVersion);
+        String refreshToken = jwtService.generateRefreshToken(email, role, name, tokenVersion);
 
-        // 4. Generate JWT tokens and return response
-        String accessTokenJwt = jwtService.generateToken(user.getEmail(), user.getRole());
-        String refreshToken = jwtService.generateRefreshToken(user.getEmail());
-        
         return new AuthResponse(
-                accessTokenJwt,
+                accessToken,
                 refreshToken,
                 "Bearer",
                 86400L, // 24 hours in seconds
-                user.getEmail(),
-                user.getName(),
-                user.getRole()
+                email,
+                name,
+                role
         );
     }
 
+    // 참조 토큰 모드에서는 클라이언트에 JWT 대신 불투명 핸들을 발급 (JWT는 게이트웨이 교환 시 서명)
+    private String issueAccessToken(String email, String role, int tokenVersion) {
+        if (referenceTokenService.isEnabled()) {
+            return referenceTokenService.issue(email, role, tokenVersion);
+        }
+        return jwtService.generateToken(email, role);
+    }
+
     private void createUserProfileFromGoogle(User user, GoogleUserInfoResponse googleInfo) {
         // Create profile with available Google data
         UserProfile profile = UserProfile.builder()
@@ -80,25 +146,43 @@ public class AuthService {
     }
 
     public AuthResponse refreshToken(String refreshToken) {
-        String email = jwtService.extractEmail(refreshToken);
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        // 서명/만료를 먼저 검증하여 위조/쓰레기 토큰은 DB 조회 없이 거부 (헤더의 kid로 검증 키 선택)
+        Claims claims = jwtService.parseVerifiedRefreshClaims(refreshToken);
+        if (claims == null || claims.getSubject() == null) {
+            throw new RuntimeException("Invalid refresh token");
+        }
+        String email = claims.getSubject();
+        Integer tokenVersion = claims.get("ver", Integer.class);
+        String role = claims.get("role", String.class);
+        String name = claims.get("name", String.class);
 
-        if (!jwtService.validateToken(refreshToken, email)) {
+        // 보안 버전/역할이 없는 토큰(액세스 토큰, 서비스 토큰 등)은 리프레시 토큰이 아니므로 거부
+        // 이름은 발급 시 null이면 생략되므로(JwtTokenMinter) 없어도 허용
+        if (tokenVersion == null || role == null) {
             throw new RuntimeException("Invalid refresh token");
         }
 
-        String newAccessToken = jwtService.generateToken(user.getEmail(), user.getRole());
-        String newRefreshToken = jwtService.generateRefreshToken(user.getEmail());
+        // 보안 버전이 현재 버전과 같으면 사용자 테이블 조회 없이 새 토큰 발급
+        Integer currentVersion = tokenVersionRegistry.currentVersion(email);
+        if (currentVersion == null || currentVersion.intValue() != tokenVersion) {
+            throw new RuntimeException("Refresh token revoked");
+        }
+        return issueTokens(email, name, role, tokenVersion);
+    }
 
-        return new AuthResponse(
-                newAccessToken,
-                newRefreshToken,
-                "Bearer",
-                86400L,
-                user.getEmail(),
-                user.getName(),
-                user.getRole()
-        );
+    /**
+     * 사용자의 보안 버전을 올려 발급된 모든 리프레시 토큰과 참조 토큰 핸들을 무효화합니다. (모든 기기에서 로그아웃)
+     * @param email 사용자 이메일
+     */
+    public void logoutEverywhere(String email) {
+        if (!tokenVersionRegistry.bump(email)) {
+            throw new RuntimeException("User not found");
+        }
+        if (referenceTokenService.isEnabled()) {
+            referenceTokenService.revokeAll(email);
+        }
+    }
+
+    private record SyncedUser(User user, boolean isNewUser) {
     }
-} 
\ No newline at end of file
+}
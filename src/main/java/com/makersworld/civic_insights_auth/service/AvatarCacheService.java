@@ -0,0 +1,355 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.AvatarProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 외부 아바타 이미지를 로컬 디스크에 캐시하는 서비스
+ *
+ * 로그인/프로필 수정 후 백그라운드에서 원본(Google CDN 등)을 내려받아 PNG로 정규화하고,
+ * 콘텐츠 SHA-256 해시를 파일명으로 저장합니다(동일 이미지는 한 번만 저장).
+ * 캐시 총 용량은 LRU 방식으로 제한되며, 원본 URL -> 콘텐츠 해시 매핑은 refs/ 디렉터리에 함께 기록하여
+ * 재시작 후에도 유지됩니다. (콘텐츠가 삭제되면 해당 ref 파일도 함께 삭제)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AvatarCacheService {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String EXTENSION = ".png";
+
+    private final AvatarProperties properties;
+    private final WebClient webClient;
+
+    private final Map<String, String> contentHashBySource = new ConcurrentHashMap<>();
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+    // 콘텐츠 해시 -> 파일 크기 (접근 순서 유지, lruLock으로 보호)
+    private final LinkedHashMap<String, Long> lru = new LinkedHashMap<>(256, 0.75f, true);
+    private final Object lruLock = new Object();
+    private long totalBytes;
+
+    private final ExecutorService fetchExecutor = Executors.newFixedThreadPool(2, r -> {
+        Thread t = new Thread(r, "avatar-fetch");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private Path cacheDir;
+    private Path refsDir;
+
+    /**
+     * 캐시 디렉터리를 준비하고 기존 캐시 파일과 원본 매핑을 다시 적재합니다.
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        cacheDir = Path.of(properties.getCacheDir()).toAbsolutePath();
+        refsDir = cacheDir.resolve("refs");
+        Files.createDirectories(refsDir);
+
+        // 최근 수정 시각 순으로 적재하여 LRU 순서를 근사
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            files.filter(p -> p.getFileName().toString().endsWith(EXTENSION))
+                    .sorted((a, b) -> Long.compare(a.toFile().lastModified(), b.toFile().lastModified()))
+                    .forEach(p -> {
+                        String name = p.getFileName().toString();
+                        recordCached(name.substring(0, name.length() - EXTENSION.length()), p.toFile().length());
+                    });
+        }
+        try (Stream<Path> refs = Files.list(refsDir)) {
+            refs.forEach(ref -> {
+                try {
+                    String[] lines = Files.readString(ref, StandardCharsets.UTF_8).split("\n", 2);
+                    if (lines.length == 2 && isCached(lines[0])) {
+                        contentHashBySource.put(lines[1], lines[0]);
+                    } else {
+                        // 이미 삭제된 콘텐츠를 가리키는 매핑
+                        Files.deleteIfExists(ref);
+                    }
+                } catch (IOException e) {
+                    log.debug("Skipping unreadable avatar ref {}", ref);
+                }
+            });
+        }
+        evictIfNeeded();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchExecutor.shutdownNow();
+    }
+
+    /**
+     * 클라이언트에 반환할 아바타 URL을 결정합니다.
+     * 캐시되어 있으면 로컬 URL을, 아니면 백그라운드 캐싱을 요청하고 원본 URL을 반환합니다.
+     * @param sourceUrl 원본 아바타 URL (null 가능)
+     * @return 클라이언트용 아바타 URL
+     */
+    public String publicUrlFor(String sourceUrl) {
+        if (sourceUrl == null || !properties.isCacheEnabled()) {
+            return sourceUrl;
+        }
+        String hash = contentHashBySource.get(sourceUrl);
+        if (hash != null && isCached(hash)) {
+            return properties.getPublicBaseUrl() + "/" + hash + EXTENSION;
+        }
+        requestFetch(sourceUrl);
+        return sourceUrl;
+    }
+
+    /**
+     * 원본 아바타를 백그라운드에서 내려받아 캐시하도록 요청합니다. (이미 캐시되었거나 진행 중이면 무시)
+     */
+    public void requestFetch(String sourceUrl) {
+        if (sourceUrl == null || !properties.isCacheEnabled() || !isAllowedSource(sourceUrl)) {
+            return;
+        }
+        String hash = contentHashBySource.get(sourceUrl);
+        if (hash != null && isCached(hash)) {
+            return;
+        }
+        if (inProgress.add(sourceUrl)) {
+            fetchExecutor.execute(() -> {
+                try {
+                    fetchAndStore(sourceUrl);
+                } catch (Exception e) {
+                    log.debug("Avatar caching failed for {}: {}", sourceUrl, e.getMessage());
+                } finally {
+                    inProgress.remove(sourceUrl);
+                }
+            });
+        }
+    }
+
+    /**
+     * 캐시 파일명({hash}.png)에 해당하는 파일을 반환합니다.
+     * @param fileName 요청 파일명
+     * @return 캐시 파일 경로, 없거나 형식이 잘못되었으면 null
+     */
+    public Path resolve(String fileName) {
+        if (!fileName.endsWith(EXTENSION)) {
+            return null;
+        }
+        String hash = fileName.substring(0, fileName.length() - EXTENSION.length());
+        if (!HASH_PATTERN.matcher(hash).matches()) {
+            return null;
+        }
+        synchronized (lruLock) {
+            // 접근 순서 갱신 (LinkedHashMap accessOrder)
+            if (lru.get(hash) == null) {
+                return null;
+            }
+        }
+        Path file = cacheDir.resolve(hash + EXTENSION);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    // 원본을 내려받아 정규화한 뒤 캐시에 저장 (테스트에서 직접 호출할 수 있도록 패키지 범위)
+    void fetchAndStore(String sourceUrl) throws IOException {
+        byte[] source = download(sourceUrl);
+        if (source == null || source.length == 0) {
+            return;
+        }
+
+        byte[] normalized = normalize(source);
+        if (normalized == null) {
+            return;
+        }
+        String hash = sha256Hex(normalized);
+        Path target = cacheDir.resolve(hash + EXTENSION);
+        if (!Files.exists(target)) {
+            // 임시 파일에 쓴 뒤 원자적으로 이동하여 부분 파일이 제공되지 않도록 함
+            Path temp = Files.createTempFile(cacheDir, hash, ".tmp");
+            Files.write(temp, normalized);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.writeString(refsDir.resolve(sha256Hex(sourceUrl.getBytes(StandardCharsets.UTF_8))),
+                hash + "\n" + sourceUrl, StandardCharsets.UTF_8);
+
+        recordCached(hash, normalized.length);
+        contentHashBySource.put(sourceUrl, hash);
+        evictIfNeeded();
+    }
+
+    // 응답 본문을 maxSourceBytes까지만 버퍼에 모음 (초과하면 나머지를 받기 전에 중단하고 null)
+    private byte[] download(String sourceUrl) {
+        DataBuffer body;
+        try {
+            body = DataBufferUtils.join(webClient.get()
+                            .uri(URI.create(sourceUrl))
+                            .accept(MediaType.IMAGE_PNG, MediaType.IMAGE_JPEG)
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class), properties.getMaxSourceBytes())
+                    .timeout(properties.getFetchTimeout())
+                    .block();
+        } catch (DataBufferLimitException e) {
+            log.debug("Skipping avatar larger than {} bytes: {}", properties.getMaxSourceBytes(), sourceUrl);
+            return null;
+        }
+        if (body == null) {
+            return null;
+        }
+        try {
+            byte[] bytes = new byte[body.readableByteCount()];
+            body.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(body);
+        }
+    }
+
+    // 이미지를 디코딩하여 최대 크기 이내로 축소한 PNG로 다시 인코딩 (디코딩 불가 또는 픽셀 수 초과 시 null)
+    private byte[] normalize(byte[] source) throws IOException {
+        BufferedImage image = decode(source);
+        if (image == null) {
+            return null;
+        }
+        int max = properties.getMaxDimension();
+        double scale = Math.min(1.0, (double) max / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage normalized = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = normalized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(normalized, "png", out);
+        return out.toByteArray();
+    }
+
+    // 헤더의 가로/세로를 먼저 읽어 픽셀 수 제한을 넘으면 디코딩하지 않음
+    // (작은 파일이 거대한 해상도로 풀리는 압축 폭탄이 힙을 소진하지 않도록)
+    private BufferedImage decode(byte[] source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > properties.getMaxSourcePixels()) {
+                    log.debug("Skipping avatar with {} pixels (limit {})", pixels, properties.getMaxSourcePixels());
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private boolean isCached(String hash) {
+        synchronized (lruLock) {
+            return lru.containsKey(hash);
+        }
+    }
+
+    private void recordCached(String hash, long size) {
+        synchronized (lruLock) {
+            Long previous = lru.put(hash, size);
+            totalBytes += size - (previous != null ? previous : 0L);
+        }
+    }
+
+    // 용량 초과 시 가장 오래 사용되지 않은 파일부터 삭제
+    private void evictIfNeeded() {
+        synchronized (lruLock) {
+            Iterator<Map.Entry<String, Long>> it = lru.entrySet().iterator();
+            while (totalBytes > properties.getMaxCacheBytes() && it.hasNext()) {
+                Map.Entry<String, Long> eldest = it.next();
+                it.remove();
+                totalBytes -= eldest.getValue();
+                try {
+                    Files.deleteIfExists(cacheDir.resolve(eldest.getKey() + EXTENSION));
+                } catch (IOException e) {
+                    log.debug("Failed to delete evicted avatar {}", eldest.getKey());
+                }
+            }
+        }
+        // 삭제된 콘텐츠를 가리키는 원본 매핑과 ref 파일 정리
+        contentHashBySource.entrySet().removeIf(entry -> {
+            if (isCached(entry.getValue())) {
+                return false;
+            }
+            Path ref = refsDir.resolve(sha256Hex(entry.getKey().getBytes(StandardCharsets.UTF_8)));
+            try {
+                Files.deleteIfExists(ref);
+            } catch (IOException e) {
+                log.debug("Failed to delete avatar ref {}", ref);
+            }
+            return true;
+        });
+    }
+
+    private boolean isAllowedSource(String sourceUrl) {
+        try {
+            URI uri = URI.create(sourceUrl);
+            String host = uri.getHost();
+            if (host == null || !"https".equalsIgnoreCase(uri.getScheme())) {
+                return false;
+            }
+            for (String suffix : properties.getAllowedHostSuffixes()) {
+                if (host.equals(suffix) || host.endsWith("." + suffix)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
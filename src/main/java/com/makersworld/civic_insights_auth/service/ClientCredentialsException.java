@@ -0,0 +1,21 @@
+package com.makersworld.civic_insights_auth.service;
+
+import lombok.Getter;
+
+/**
+ * client_credentials 토큰 요청 실패 (RFC 6749 5.2 오류 코드 포함)
+ */
+@Getter
+public class ClientCredentialsException extends RuntimeException {
+
+    public static final String INVALID_CLIENT = "invalid_client";
+    public static final String INVALID_SCOPE = "invalid_scope";
+    public static final String UNSUPPORTED_GRANT_TYPE = "unsupported_grant_type";
+
+    private final String error;
+
+    public ClientCredentialsException(String error, String message) {
+        super(message);
+        this.error = error;
+    }
+}
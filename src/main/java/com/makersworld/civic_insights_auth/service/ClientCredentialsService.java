@@ -0,0 +1,133 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.ClientCredentialsProperties;
+import com.makersworld.civic_insights_auth.dto.ClientTokenResponse;
+import com.makersworld.civic_insights_auth.model.ServiceClient;
+import com.makersworld.civic_insights_auth.repository.ServiceClientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 내부 서비스/배치 작업용 client_credentials 토큰 발급 서비스
+ *
+ * 클라이언트 시크릿은 BCrypt로 검증하되, 검증에 성공한 시크릿의 SHA-256 다이제스트를 TTL 동안 기억하여
+ * 같은 시크릿의 반복 요청은 느린 BCrypt와 DB 조회 없이 상수 시간 비교로 인증합니다.
+ * 같은 클라이언트/스코프 조합에는 남은 유효 기간이 충분한 기존 토큰을 재사용하여 재서명하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClientCredentialsService {
+
+    public static final String GRANT_TYPE = "client_credentials";
+
+    private static final BCryptPasswordEncoder PASSWORD_ENCODER = new BCryptPasswordEncoder();
+
+    private final ServiceClientRepository serviceClientRepository;
+    private final ClientCredentialsProperties properties;
+    private final JwtService jwtService;
+
+    // clientId -> 검증된 시크릿 다이제스트와 허용 스코프
+    private final Map<String, VerifiedClient> verifiedClients = new ConcurrentHashMap<>();
+    // clientId + ' ' + 정규화된 스코프 -> 발급된 토큰
+    private final Map<String, IssuedToken> issuedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * 클라이언트를 인증하고 요청한 스코프의 액세스 토큰을 발급(또는 재사용)합니다.
+     * @param clientId 클라이언트 ID
+     * @param clientSecret 클라이언트 시크릿
+     * @param requestedScope 공백 구분 스코프 (비어 있으면 허용된 전체 스코프)
+     * @return 토큰 응답
+     * @throws ClientCredentialsException 인증 실패(invalid_client) 또는 허용되지 않은 스코프(invalid_scope)
+     */
+    public ClientTokenResponse issue(String clientId, String clientSecret, String requestedScope) {
+        if (clientId == null || clientId.isEmpty() || clientSecret == null || clientSecret.isEmpty()) {
+            throw new ClientCredentialsException(ClientCredentialsException.INVALID_CLIENT, "Missing client credentials");
+        }
+        VerifiedClient client = authenticate(clientId, clientSecret);
+        String scope = grantedScope(client, requestedScope);
+
+        long now = System.currentTimeMillis();
+        long minRemaining = properties.getMinRemainingForReuse().toMillis();
+        // 같은 키의 동시 요청이 각자 서명하지 않도록 compute 안에서 재사용/발급을 결정
+        IssuedToken token = issuedTokens.compute(clientId + ' ' + scope, (key, existing) -> {
+            if (existing != null && existing.expiresAtMillis() - now > minRemaining) {
+                return existing;
+            }
+            long expiresAt = now + properties.getTokenExpiration().toMillis();
+            return new IssuedToken(jwtService.generateClientToken(clientId, scope, expiresAt), expiresAt);
+        });
+        if (issuedTokens.size() > 1024) {
+            issuedTokens.values().removeIf(issued -> issued.expiresAtMillis() <= now);
+        }
+        return new ClientTokenResponse(token.value(), "Bearer",
+                Math.max(0, (token.expiresAtMillis() - now) / 1000), scope);
+    }
+
+    private VerifiedClient authenticate(String clientId, String clientSecret) {
+        byte[] digest = sha256(clientSecret);
+        long now = System.currentTimeMillis();
+        VerifiedClient cached = verifiedClients.get(clientId);
+        if (cached != null && cached.verifiedUntil() > now && MessageDigest.isEqual(cached.secretDigest(), digest)) {
+            return cached;
+        }
+
+        ServiceClient client = serviceClientRepository.findByClientId(clientId)
+                .filter(ServiceClient::isEnabled)
+                .orElse(null);
+        if (client == null || !PASSWORD_ENCODER.matches(clientSecret, client.getSecretHash())) {
+            log.debug("Client authentication failed: {}", clientId);
+            throw new ClientCredentialsException(ClientCredentialsException.INVALID_CLIENT, "Client authentication failed");
+        }
+        VerifiedClient verified = new VerifiedClient(digest, parseScopes(client.getScopes()),
+                now + properties.getVerifiedSecretTtl().toMillis());
+        verifiedClients.put(clientId, verified);
+        return verified;
+    }
+
+    // 요청 스코프를 정렬/중복 제거하여 같은 스코프 집합이 같은 캐시 키가 되도록 정규화
+    private static String grantedScope(VerifiedClient client, String requestedScope) {
+        Set<String> requested = parseScopes(requestedScope);
+        if (requested.isEmpty()) {
+            requested = client.allowedScopes();
+        } else if (!client.allowedScopes().containsAll(requested)) {
+            throw new ClientCredentialsException(ClientCredentialsException.INVALID_SCOPE, "Requested scope is not allowed");
+        }
+        return String.join(" ", requested);
+    }
+
+    private static Set<String> parseScopes(String scopes) {
+        Set<String> result = new TreeSet<>();
+        if (scopes != null) {
+            Arrays.stream(scopes.trim().split("\\s+"))
+                    .filter(s -> !s.isEmpty())
+                    .forEach(result::add);
+        }
+        return result;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record VerifiedClient(byte[] secretDigest, Set<String> allowedScopes, long verifiedUntil) {
+    }
+
+    private record IssuedToken(String value, long expiresAtMillis) {
+    }
+}
@@ -1,7 +1,12 @@
 package com.makersworld.civic_insights_auth.service;
 
+import com.makersworld.civic_insights_auth.config.GoogleOAuth2Properties;
 import com.makersworld.civic_insights_auth.dto.GoogleTokenResponse;
 import com.makersworld.civic_insights_auth.dto.GoogleUserInfoResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
@@ -9,6 +14,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Exceptions;
+
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -27,17 +36,37 @@ public class GoogleOAuth2Service {
     private String scope;
 
     private final WebClient webClient;
+    private final GoogleOAuth2Properties googleOAuth2Properties;
+    private final CircuitBreaker googleOAuth2CircuitBreaker;
+    private final Bulkhead googleOAuth2Bulkhead;
 
-    public String buildGoogleAuthorizationUrl() {
-        return "https://accounts.google.com/o/oauth2/v2/auth" +
+    /**
+     * Google 인증 페이지 URL을 만듭니다.
+     * @param state CSRF 방지용 state (콜백에서 그대로 돌아옴)
+     * @param codeChallenge PKCE S256 코드 챌린지
+     */
+    public String buildGoogleAuthorizationUrl(String state, String codeChallenge) {
+        return googleOAuth2Properties.getAuthorizationUri() +
                 "?client_id=" + clientId +
                 "&redirect_uri=" + redirectUri +
                 "&response_type=code" +
-                "&scope=" + scope.replace(",", " "); // application.properties의 scope를 공백으로 구분
+                "&scope=" + scope.replace(",", " ") + // application.properties의 scope를 공백으로 구분
+                "&state=" + state +
+                "&code_challenge=" + codeChallenge +
+                "&code_challenge_method=S256";
     }
 
     public String getAccessToken(String code) {
-        String tokenUri = "https://oauth2.googleapis.com/token";
+        return getAccessToken(code, null);
+    }
+
+    /**
+     * 인가 코드를 액세스 토큰으로 교환합니다.
+     * @param code 인가 코드
+     * @param codeVerifier PKCE code_verifier (PKCE 없이 발급된 코드이면 null)
+     */
+    public String getAccessToken(String code, String codeVerifier) {
+        String tokenUri = googleOAuth2Properties.getTokenUri();
 
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("code", code);
@@ -45,14 +74,18 @@ public class GoogleOAuth2Service {
         params.add("client_secret", clientSecret);
         params.add("redirect_uri", redirectUri);
         params.add("grant_type", "authorization_code");
+        if (codeVerifier != null) {
+            params.add("code_verifier", codeVerifier);
+        }
 
-        GoogleTokenResponse response = webClient.post()
+        GoogleTokenResponse response = callGoogle(() -> webClient.post()
                 .uri(tokenUri)
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .bodyValue(params)
                 .retrieve()
                 .bodyToMono(GoogleTokenResponse.class)
-                .block();
+                .timeout(googleOAuth2Properties.getCallTimeout())
+                .block());
 
         if (response == null) {
             throw new RuntimeException("Failed to get access token from Google");
@@ -61,18 +94,40 @@ public class GoogleOAuth2Service {
     }
 
     public GoogleUserInfoResponse getUserInfo(String accessToken) {
-        String userInfoUri = "https://www.googleapis.com/oauth2/v2/userinfo";
+        String userInfoUri = googleOAuth2Properties.getUserInfoUri();
 
-        GoogleUserInfoResponse response = webClient.get()
+        GoogleUserInfoResponse response = callGoogle(() -> webClient.get()
                 .uri(userInfoUri)
                 .headers(headers -> headers.setBearerAuth(accessToken))
                 .retrieve()
                 .bodyToMono(GoogleUserInfoResponse.class)
-                .block();
+                .timeout(googleOAuth2Properties.getCallTimeout())
+                .block());
 
         if (response == null) {
             throw new RuntimeException("Failed to get user info from Google");
         }
         return response;
     }
+
+    /**
+     * 벌크헤드(동시 호출 제한)와 서킷 브레이커를 거쳐 Google을 호출합니다.
+     * 차단되거나 제한 시간을 넘긴 호출은 GoogleOAuth2UnavailableException으로 즉시 실패합니다.
+     */
+    private <T> T callGoogle(Supplier<T> call) {
+        try {
+            // 벌크헤드가 바깥쪽: 동시성 제한으로 거부된 호출은 서킷 브레이커 실패율에 포함되지 않음
+            return Bulkhead.decorateSupplier(googleOAuth2Bulkhead,
+                    CircuitBreaker.decorateSupplier(googleOAuth2CircuitBreaker, call)).get();
+        } catch (CallNotPermittedException e) {
+            throw new GoogleOAuth2UnavailableException("Google OAuth2 is temporarily unavailable (circuit open)", e);
+        } catch (BulkheadFullException e) {
+            throw new GoogleOAuth2UnavailableException("Too many concurrent Google OAuth2 calls", e);
+        } catch (RuntimeException e) {
+            if (Exceptions.unwrap(e) instanceof TimeoutException) {
+                throw new GoogleOAuth2UnavailableException("Google OAuth2 call timed out", e);
+            }
+            throw e;
+        }
+    }
 }
\ No newline at end of file
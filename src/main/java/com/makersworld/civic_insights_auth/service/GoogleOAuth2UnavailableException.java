@@ -0,0 +1,12 @@
+package com.makersworld.civic_insights_auth.service;
+
+/**
+ * Google OAuth2 호출이 서킷 브레이커/벌크헤드/타임아웃으로 거부되었을 때 발생하는 예외
+ * 사용자의 잘못된 코드가 아니라 일시적인 외부 장애이므로 503으로 응답합니다.
+ */
+public class GoogleOAuth2UnavailableException extends RuntimeException {
+
+    public GoogleOAuth2UnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
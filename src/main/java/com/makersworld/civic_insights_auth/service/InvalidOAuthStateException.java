@@ -0,0 +1,15 @@
+package com.makersworld.civic_insights_auth.service;
+
+/**
+ * OAuth2 콜백의 state 검증 실패 (위조/만료/재사용/쿠키 누락)
+ */
+public class InvalidOAuthStateException extends RuntimeException {
+
+    public InvalidOAuthStateException(String message) {
+        super(message);
+    }
+
+    public InvalidOAuthStateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
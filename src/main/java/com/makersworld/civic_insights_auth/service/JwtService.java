@@ -2,16 +2,20 @@ package com.makersworld.civic_insights_auth.service;
 
 import com.makersworld.civic_insights_auth.config.JwtKeyProvider;
 import com.makersworld.civic_insights_auth.config.JwtProperties;
+import com.makersworld.civic_insights_auth.config.RefreshTokenKeyProvider;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.security.PrivateKey;
+import java.security.Key;
 import java.security.PublicKey;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -26,14 +30,34 @@ public class JwtService {
 
     private final JwtProperties jwtProperties;
     private final JwtKeyProvider jwtKeyProvider;
-
-    /**
-     * JWT 토큰 서명에 사용할 개인키를 반환합니다.
-     * @return RSA 개인키
-     */
-    private PrivateKey getSigningKey() {
-        return jwtKeyProvider.getPrivateKey();
-    }
+    private final JwtTokenMinter jwtTokenMinter;
+    private final RefreshTokenKeyProvider refreshTokenKeyProvider;
+
+    // 리프레시 토큰 검증기: 헤더의 kid로 HS256 리프레시 키를 선택
+    // RSA로 서명된 액세스/서비스 토큰이 리프레시 토큰으로 받아들여지지 않도록 다른 키로는 검증하지 않음
+    private final JwtParser refreshTokenParser = Jwts.parser()
+            .keyLocator(new LocatorAdapter<Key>() {
+                @Override
+                protected Key locate(JwsHeader header) {
+                    String keyId = header.getKeyId();
+                    if (keyId == null || !keyId.startsWith(RefreshTokenKeyProvider.KEY_ID_PREFIX)) {
+                        throw new UnsupportedJwtException("Not a refresh token");
+                    }
+                    return refreshTokenKeyProvider.getKey(keyId);
+                }
+            })
+            .build();
+
+    // 액세스/서비스 토큰 검증기: RSA 공개키로 검증
+    // 요청마다 파서를 새로 만들지 않도록 한 번만 생성하고, 키는 백그라운드 생성이 끝난 뒤 첫 검증 시점에 가져옴
+    private final JwtParser accessTokenParser = Jwts.parser()
+            .keyLocator(new LocatorAdapter<Key>() {
+                @Override
+                protected Key locate(JwsHeader header) {
+                    return getVerifyingKey();
+                }
+            })
+            .build();
 
     /**
      * JWT 토큰 검증에 사용할 공개키를 반환합니다.
@@ -50,60 +74,82 @@ public class JwtService {
      * @return JWT 액세스 토큰
      */
     public String generateToken(String email, String role) {
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("role", role);
-        return createToken(claims, email);
+        return jwtTokenMinter.mint(email, role, System.currentTimeMillis(), jwtProperties.getExpirationMs());
     }
 
     /**
-     * 이메일로 리프레시 토큰을 생성합니다.
+     * 지정된 시각에 만료되는 액세스 토큰을 생성합니다. (참조 토큰 교환 시 핸들과 만료를 맞추기 위해 사용)
      * @param email 사용자 이메일
-     * @return JWT 리프레시 토큰
+     * @param role 사용자 역할
+     * @param expiresAtMillis 만료 시각 (밀리초)
+     * @return JWT 액세스 토큰
      */
-    public String generateRefreshToken(String email) {
-        return createToken(new HashMap<>(), email, jwtProperties.getRefreshExpiration());
+    public String generateTokenExpiringAt(String email, String role, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        return jwtTokenMinter.mint(email, role, now, expiresAtMillis - now);
     }
 
     /**
-     * 기본 만료시간으로 토큰을 생성합니다.
-     * @param claims 토큰에 포함할 클레임
-     * @param subject 토큰 주체 (이메일)
-     * @return JWT 토큰
+     * 서비스 클라이언트(client_credentials)용 스코프 액세스 토큰을 생성합니다.
+     * 같은 클라이언트/스코프에는 만료 전까지 발급된 토큰을 재사용하므로 서명 빈도가 낮아,
+     * 고정 클레임 전용 민팅 엔진 대신 jjwt 빌더로 scope 클레임을 추가합니다.
+     * @param clientId 클라이언트 ID (sub)
+     * @param scope 공백으로 구분된 부여 스코프
+     * @param expiresAtMillis 만료 시각 (밀리초)
+     * @return JWT 액세스 토큰
      */
-    private String createToken(Map<String, Object> claims, String subject) {
-        return createToken(claims, subject, jwtProperties.getExpirationMs());
+    public String generateClientToken(String clientId, String scope, long expiresAtMillis) {
+        return Jwts.builder()
+                .claims(Map.of("role", "SERVICE", "scope", scope))
+                .subject(clientId)
+                .issuedAt(new Date())
+                .expiration(new Date(expiresAtMillis))
+                .signWith(jwtKeyProvider.getPrivateKey())
+                .compact();
     }
 
     /**
-     * 지정된 만료시간으로 토큰을 생성합니다.
-     * @param claims 토큰에 포함할 클레임
-     * @param subject 토큰 주체 (이메일)
-     * @param expiration 만료시간 (밀리초)
-     * @return JWT 토큰
+     * 사용자 보안 버전을 포함한 리프레시 토큰을 생성합니다.
+     * 역할/이름/버전을 토큰에 담아 갱신 시 사용자 테이블 조회 없이 새 토큰을 발급할 수 있게 합니다.
+     * 리프레시 토큰은 이 서비스만 검증하므로 RSA 대신 교체되는 로컬 HMAC 키(HS256)로 서명합니다.
+     * @param email 사용자 이메일
+     * @param role 사용자 역할
+     * @param name 사용자 이름
+     * @param tokenVersion 사용자 보안 버전
+     * @return JWT 리프레시 토큰
      */
-    private String createToken(Map<String, Object> claims, String subject, long expiration) {
-        Date now = new Date(System.currentTimeMillis());
-        Date expiryDate = new Date(now.getTime() + expiration);
-        
-        return Jwts.builder()
-                .claims(claims)
-                .subject(subject)
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey()) // RSA 개인키로 서명
-                .compact();
+    public String generateRefreshToken(String email, String role, String name, int tokenVersion) {
+        String keyId = refreshTokenKeyProvider.currentKeyId();
+        return jwtTokenMinter.mintHs256(keyId, refreshTokenKeyProvider.getKey(keyId), email, role, name,
+                tokenVersion, System.currentTimeMillis(), jwtProperties.getRefreshExpiration());
+    }
+
+    /**
+     * 리프레시 토큰의 서명과 만료를 검증한 뒤 클레임을 반환합니다.
+     * 헤더의 키 ID로 리프레시 전용 HMAC 키를 선택하여 검증합니다. (RSA 서명 토큰은 거부)
+     * @param token 리프레시 토큰
+     * @return 검증된 클레임, 유효하지 않으면 null
+     */
+    public Claims parseVerifiedRefreshClaims(String token) {
+        try {
+            return refreshTokenParser.parseSignedClaims(token).getPayload();
+        } catch (Exception e) {
+            log.debug("리프레시 토큰 파싱 실패: {}", e.getMessage());
+            return null;
+        }
     }
 
     /**
      * 토큰의 유효성을 검증합니다.
+     * 서명 검증은 한 번만 수행하고, 같은 클레임에서 이메일과 만료시간을 확인합니다.
      * @param token JWT 토큰
      * @param email 검증할 이메일
      * @return 토큰 유효 여부
      */
     public Boolean validateToken(String token, String email) {
         try {
-            final String username = extractEmail(token);
-            return (username.equals(email) && !isTokenExpired(token));
+            final Claims claims = extractAllClaims(token);
+            return (claims.getSubject().equals(email) && !claims.getExpiration().before(new Date()));
         } catch (Exception e) {
             log.debug("토큰 검증 실패: {}", e.getMessage());
             return false;
@@ -169,36 +215,31 @@ public class JwtService {
     }
 
     /**
-     * 토큰에서 모든 클레임을 추출합니다.
-     * RSA 공개키를 사용하여 토큰을 검증합니다.
+     * 서명과 만료를 검증한 뒤 클레임을 반환합니다.
      * @param token JWT 토큰
-     * @return 클레임 객체
-     * @throws RuntimeException 토큰 파싱 또는 검증 실패 시
+     * @return 검증된 클레임, 유효하지 않으면 null
      */
-    private Claims extractAllClaims(String token) {
+    public Claims parseVerifiedClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getVerifyingKey()) // RSA 공개키로 검증
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return extractAllClaims(token);
         } catch (Exception e) {
-            log.debug("JWT 토큰 파싱 실패: {}", e.getMessage());
-            throw new RuntimeException("Invalid JWT token", e);
+            return null;
         }
     }
 
     /**
-     * 토큰이 만료되었는지 확인합니다.
+     * 토큰에서 모든 클레임을 추출합니다.
+     * RSA 공개키를 사용하여 토큰을 검증합니다.
      * @param token JWT 토큰
-     * @return 만료 여부
+     * @return 클레임 객체
+     * @throws RuntimeException 토큰 파싱 또는 검증 실패 시
      */
-    private Boolean isTokenExpired(String token) {
+    private Claims extractAllClaims(String token) {
         try {
-            return extractExpiration(token).before(new Date());
+            return accessTokenParser.parseSignedClaims(token).getPayload(); // RSA 공개키로 검증
         } catch (Exception e) {
-            log.debug("토큰 만료 확인 실패: {}", e.getMessage());
-            return true; // 오류 시 만료된 것으로 처리
+            log.debug("JWT 토큰 파싱 실패: {}", e.getMessage());
+            throw new RuntimeException("Invalid JWT token", e);
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,365 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.JwtKeyProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 고정된 클레임 구조(sub, role, iat, exp)의 JWT를 빠르게 발급하는 전용 민팅 엔진
+ *
+ * Jwts.builder()는 호출마다 클레임 Map, Date, 헤더 JSON 직렬화, Signature 초기화를 반복합니다.
+ * 이 엔진은 헤더를 미리 Base64URL로 인코딩해 두고, 페이로드를 스레드별 재사용 버퍼에 직접 기록하며,
+ * 스레드별로 초기화된 Signature 인스턴스를 재사용합니다.
+ * 출력 형식(헤더.페이로드.서명, 패딩 없는 Base64URL)은 jjwt가 발급하던 토큰과 동일합니다.
+ * 리프레시 토큰은 키 ID(kid)를 헤더에 담아 HS256으로 서명할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtTokenMinter {
+
+    // jjwt가 RSA-2048 키로 서명할 때 생성하던 헤더와 동일한 JSON
+    public static final String RS256_HEADER_JSON = "{\"alg\":\"RS256\"}";
+    private static final String JCA_RS256 = "SHA256withRSA";
+    private static final String JCA_HS256 = "HmacSHA256";
+
+    private static final byte[] ENCODED_HEADER = encodeHeader(RS256_HEADER_JSON);
+
+    private static final byte[] BASE64URL_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+
+    private final JwtKeyProvider jwtKeyProvider;
+
+    // 스레드별 재사용 버퍼와 Signature (Tomcat 워커 스레드 수만큼만 생성됨)
+    private final ThreadLocal<MintContext> contexts = ThreadLocal.withInitial(MintContext::new);
+
+    // 키 ID별 미리 인코딩된 HS256 헤더 (교체 주기마다 하나씩 추가됨)
+    private final Map<String, byte[]> hmacHeaders = new ConcurrentHashMap<>();
+
+    /**
+     * 지정된 클레임으로 RS256 서명 토큰을 발급합니다.
+     * @param subject 토큰 주체 (이메일)
+     * @param role 역할 클레임 (null이면 생략)
+     * @param issuedAtMillis 발급 시각 (밀리초)
+     * @param expirationMs 만료까지의 시간 (밀리초)
+     * @return 서명된 JWT 문자열
+     */
+    public String mint(String subject, String role, long issuedAtMillis, long expirationMs) {
+        return mint(subject, role, null, null, issuedAtMillis, expirationMs);
+    }
+
+    /**
+     * 보안 버전(ver)과 이름을 포함한 리프레시 토큰용 클레임으로 RS256 서명 토큰을 발급합니다.
+     * @param subject 토큰 주체 (이메일)
+     * @param role 역할 클레임 (null이면 생략)
+     * @param name 이름 클레임 (null이면 생략)
+     * @param version 사용자 보안 버전 클레임 (null이면 생략)
+     * @param issuedAtMillis 발급 시각 (밀리초)
+     * @param expirationMs 만료까지의 시간 (밀리초)
+     * @return 서명된 JWT 문자열
+     */
+    public String mint(String subject, String role, String name, Integer version,
+                       long issuedAtMillis, long expirationMs) {
+        MintContext ctx = writePayload(subject, role, name, version, issuedAtMillis, expirationMs);
+        return ctx.sign(ENCODED_HEADER, jwtKeyProvider.getPrivateKey());
+    }
+
+    /**
+     * 리프레시 토큰용 클레임으로 HS256 서명 토큰을 발급합니다. (헤더에 키 ID 포함)
+     * @param keyId 서명 키 ID
+     * @param key HMAC 서명 키
+     * @param subject 토큰 주체 (이메일)
+     * @param role 역할 클레임 (null이면 생략)
+     * @param name 이름 클레임 (null이면 생략)
+     * @param version 사용자 보안 버전 클레임 (null이면 생략)
+     * @param issuedAtMillis 발급 시각 (밀리초)
+     * @param expirationMs 만료까지의 시간 (밀리초)
+     * @return 서명된 JWT 문자열
+     */
+    public String mintHs256(String keyId, SecretKey key, String subject, String role, String name,
+                            Integer version, long issuedAtMillis, long expirationMs) {
+        byte[] header = hmacHeaders.get(keyId);
+        if (header == null) {
+            if (hmacHeaders.size() > 16) {
+                hmacHeaders.clear();
+            }
+            header = hmacHeaders.computeIfAbsent(keyId,
+                    kid -> encodeHeader("{\"alg\":\"HS256\",\"kid\":\"" + kid + "\"}"));
+        }
+        MintContext ctx = writePayload(subject, role, name, version, issuedAtMillis, expirationMs);
+        return ctx.mac(header, key);
+    }
+
+    private MintContext writePayload(String subject, String role, String name, Integer version,
+                                     long issuedAtMillis, long expirationMs) {
+        MintContext ctx = contexts.get();
+        ctx.reset();
+
+        // 페이로드 JSON을 jjwt와 동일한 순서(사용자 정의 클레임, sub, iat, exp)로 직접 기록
+        ctx.json.writeByte('{');
+        if (role != null) {
+            ctx.json.writeStringField("role", role);
+            ctx.json.writeByte(',');
+        }
+        if (name != null) {
+            ctx.json.writeStringField("name", name);
+            ctx.json.writeByte(',');
+        }
+        if (version != null) {
+            ctx.json.writeNumberField("ver", version);
+            ctx.json.writeByte(',');
+        }
+        ctx.json.writeStringField("sub", subject);
+        ctx.json.writeByte(',');
+        // jjwt와 동일하게 iat/exp는 초 단위로 절삭
+        ctx.json.writeNumberField("iat", issuedAtMillis / 1000);
+        ctx.json.writeByte(',');
+        ctx.json.writeNumberField("exp", (issuedAtMillis + expirationMs) / 1000);
+        ctx.json.writeByte('}');
+        return ctx;
+    }
+
+    private static byte[] encodeHeader(String headerJson) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(headerJson.getBytes(StandardCharsets.US_ASCII))
+                .getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 스레드별 민팅 상태: 페이로드 JSON 버퍼, 서명 입력/출력 버퍼, 초기화된 Signature/Mac
+     */
+    private static final class MintContext {
+        private final ByteBuffer json = new ByteBuffer(256);
+        private final ByteBuffer token = new ByteBuffer(1024);
+        private byte[] signatureBytes = new byte[512];
+        private Signature signature;
+        private PrivateKey signingKey;
+        private Mac mac;
+        private SecretKey macKey;
+
+        void reset() {
+            json.reset();
+            token.reset();
+        }
+
+        String sign(byte[] encodedHeader, PrivateKey key) {
+            try {
+                Signature sig = signatureFor(key);
+                writeSigningInput(encodedHeader);
+                sig.update(token.buf, 0, token.size);
+                return finish(sig.sign(signatureBytes, 0, signatureBytes.length));
+            } catch (GeneralSecurityException e) {
+                // 오류 후 Signature 상태를 신뢰할 수 없으므로 다음 호출에서 재초기화
+                signature = null;
+                throw new IllegalStateException("JWT 서명 실패", e);
+            }
+        }
+
+        String mac(byte[] encodedHeader, SecretKey key) {
+            try {
+                Mac m = macFor(key);
+                writeSigningInput(encodedHeader);
+                m.update(token.buf, 0, token.size);
+                int macLen = m.getMacLength();
+                m.doFinal(signatureBytes, 0);
+                return finish(macLen);
+            } catch (GeneralSecurityException e) {
+                mac = null;
+                throw new IllegalStateException("JWT 서명 실패", e);
+            }
+        }
+
+        // 서명 입력: base64url(header) + '.' + base64url(payload)
+        private void writeSigningInput(byte[] encodedHeader) {
+            token.write(encodedHeader, 0, encodedHeader.length);
+            token.writeByte('.');
+            token.writeBase64Url(json.buf, 0, json.size);
+        }
+
+        private String finish(int sigLen) {
+            token.writeByte('.');
+            token.writeBase64Url(signatureBytes, 0, sigLen);
+            // Base64URL 출력은 ASCII이므로 ISO-8859-1로 복사 없이 바로 문자열화
+            return new String(token.buf, 0, token.size, StandardCharsets.ISO_8859_1);
+        }
+
+        // 키가 교체된 경우에만 initSign을 다시 호출 (sign() 이후 Signature는 자동으로 재사용 가능 상태)
+        private Signature signatureFor(PrivateKey key) throws GeneralSecurityException {
+            if (signature == null || signingKey != key) {
+                Signature sig = Signature.getInstance(JCA_RS256);
+                sig.initSign(key);
+                signature = sig;
+                signingKey = key;
+            }
+            return signature;
+        }
+
+        // 키 교체 주기가 바뀐 경우에만 Mac을 다시 초기화 (doFinal 이후 Mac은 자동으로 재사용 가능 상태)
+        private Mac macFor(SecretKey key) throws GeneralSecurityException {
+            if (mac == null || macKey != key) {
+                Mac m = Mac.getInstance(JCA_HS256);
+                m.init(key);
+                mac = m;
+                macKey = key;
+            }
+            return mac;
+        }
+    }
+
+    /**
+     * 간단한 가변 길이 바이트 버퍼 (JSON/Base64URL 직접 기록용)
+     */
+    private static final class ByteBuffer {
+        private byte[] buf;
+        private int size;
+
+        ByteBuffer(int initialCapacity) {
+            this.buf = new byte[initialCapacity];
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        void ensureCapacity(int extra) {
+            if (size + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+            }
+        }
+
+        void writeByte(int b) {
+            ensureCapacity(1);
+            buf[size++] = (byte) b;
+        }
+
+        void write(byte[] src, int off, int len) {
+            ensureCapacity(len);
+            System.arraycopy(src, off, buf, size, len);
+            size += len;
+        }
+
+        void writeStringField(String name, String value) {
+            writeJsonString(name);
+            writeByte(':');
+            writeJsonString(value);
+        }
+
+        void writeNumberField(String name, long value) {
+            writeJsonString(name);
+            writeByte(':');
+            writeLong(value);
+        }
+
+        void writeLong(long value) {
+            if (value < 0) {
+                writeByte('-');
+                value = -value;
+            }
+            ensureCapacity(20);
+            int start = size;
+            do {
+                buf[size++] = (byte) ('0' + (value % 10));
+                value /= 10;
+            } while (value > 0);
+            // 역순으로 기록된 숫자를 뒤집음
+            for (int i = start, j = size - 1; i < j; i++, j--) {
+                byte t = buf[i];
+                buf[i] = buf[j];
+                buf[j] = t;
+            }
+        }
+
+        /**
+         * Jackson 기본 설정과 동일한 규칙으로 JSON 문자열을 UTF-8로 기록합니다.
+         * (따옴표, 역슬래시, 제어문자만 이스케이프하고 비ASCII 문자는 그대로 UTF-8 인코딩)
+         */
+        void writeJsonString(String s) {
+            writeByte('"');
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c == '"' || c == '\\') {
+                    writeByte('\\');
+                    writeByte(c);
+                } else if (c < 0x20) {
+                    writeControlEscape(c);
+                } else if (c < 0x80) {
+                    writeByte(c);
+                } else if (c < 0x800) {
+                    writeByte(0xC0 | (c >> 6));
+                    writeByte(0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+                        && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, s.charAt(++i));
+                    writeByte(0xF0 | (cp >> 18));
+                    writeByte(0x80 | ((cp >> 12) & 0x3F));
+                    writeByte(0x80 | ((cp >> 6) & 0x3F));
+                    writeByte(0x80 | (cp & 0x3F));
+                } else {
+                    writeByte(0xE0 | (c >> 12));
+                    writeByte(0x80 | ((c >> 6) & 0x3F));
+                    writeByte(0x80 | (c & 0x3F));
+                }
+            }
+            writeByte('"');
+        }
+
+        private void writeControlEscape(char c) {
+            writeByte('\\');
+            switch (c) {
+                case '\b': writeByte('b'); break;
+                case '\f': writeByte('f'); break;
+                case '\n': writeByte('n'); break;
+                case '\r': writeByte('r'); break;
+                case '\t': writeByte('t'); break;
+                default:
+                    writeByte('u');
+                    writeByte('0');
+                    writeByte('0');
+                    writeByte(hexDigit(c >> 4));
+                    writeByte(hexDigit(c & 0xF));
+            }
+        }
+
+        private static int hexDigit(int v) {
+            return v < 10 ? '0' + v : 'A' + (v - 10);
+        }
+
+        /**
+         * 패딩 없는 Base64URL 인코딩 결과를 버퍼에 직접 기록합니다.
+         */
+        void writeBase64Url(byte[] src, int off, int len) {
+            ensureCapacity((len * 4 + 2) / 3);
+            int end = off + len;
+            int i = off;
+            while (i + 3 <= end) {
+                int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+                buf[size++] = BASE64URL_ALPHABET[(bits >>> 18) & 0x3F];
+                buf[size++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3F];
+                buf[size++] = BASE64URL_ALPHABET[(bits >>> 6) & 0x3F];
+                buf[size++] = BASE64URL_ALPHABET[bits & 0x3F];
+                i += 3;
+            }
+            int remaining = end - i;
+            if (remaining == 1) {
+                int bits = (src[i] & 0xFF) << 16;
+                buf[size++] = BASE64URL_ALPHABET[(bits >>> 18) & 0x3F];
+                buf[size++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3F];
+            } else if (remaining == 2) {
+                int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+                buf[size++] = BASE64URL_ALPHABET[(bits >>> 18) & 0x3F];
+                buf[size++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3F];
+                buf[size++] = BASE64URL_ALPHABET[(bits >>> 6) & 0x3F];
+            }
+        }
+    }
+}
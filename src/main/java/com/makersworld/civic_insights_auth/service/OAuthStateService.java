@@ -0,0 +1,231 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.OAuthStateProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서버 주도 OAuth2 흐름의 state와 PKCE code_verifier를 상태 없이 관리하는 서비스
+ *
+ * 로그인 시작 시 state와 code_verifier를 만들어 AES-GCM으로 암호화한 값을 쿠키로 내려주고,
+ * 콜백에서 쿠키를 복호화하여 state를 상수 시간으로 비교합니다. GCM 인증 태그가 위변조를 검출하므로
+ * 서버 세션이나 공유 저장소 없이 같은 시크릿을 가진 어느 인스턴스든 콜백을 완료할 수 있습니다.
+ * 사용된 state는 함께 온 인가 코드의 해시와 함께 만료 시각까지 인스턴스 메모리에 기억합니다.
+ * 같은 state + 같은 코드의 반복(브라우저 재시도, 이중 제출)은 통과시켜 코드 교환 단계에서 하나로 합치고,
+ * 같은 state를 다른 코드로 재사용하는 경우만 거부합니다.
+ * (Google 인가 코드도 1회용이므로 다른 인스턴스로의 재사용은 코드 교환 단계에서 실패)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OAuthStateService {
+
+    private static final byte VERSION = 1;
+    private static final int STATE_BYTES = 16;
+    private static final int VERIFIER_BYTES = 32;
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final byte[] AAD = "civic-oauth-state".getBytes(StandardCharsets.US_ASCII);
+
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder B64_DECODER = Base64.getUrlDecoder();
+
+    private final OAuthStateProperties properties;
+
+    private final SecureRandom random = new SecureRandom();
+    // state -> 함께 사용된 코드 해시와 만료 시각 (삽입 순서 = 발급 순서에 가까우므로 앞쪽부터 만료 정리)
+    private final Map<String, UsedState> usedStates = new LinkedHashMap<>();
+    private SecretKey encryptionKey;
+
+    @PostConstruct
+    public void init() {
+        byte[] secret;
+        String configured = properties.getSecret();
+        if (configured == null || configured.isBlank()) {
+            // 인스턴스마다 다른 임시 키가 되어 다른 인스턴스로 간 콜백이 invalid_state로 실패하므로 운영에서는 기동 중단
+            if (properties.isSecretRequired()) {
+                throw new IllegalStateException("app.oauth2.state.secret (OAUTH_STATE_SECRET) must be set");
+            }
+            secret = new byte[MIN_SECRET_BYTES];
+            random.nextBytes(secret);
+            log.warn("OAuth state secret not configured; using an ephemeral secret (callbacks must hit this instance)");
+        } else {
+            secret = Base64.getDecoder().decode(configured.trim());
+            if (secret.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("app.oauth2.state.secret must be at least 32 bytes");
+            }
+        }
+        encryptionKey = deriveKey(secret);
+    }
+
+    /**
+     * 새 로그인 요청의 state, PKCE 챌린지와 이를 담은 쿠키 값을 만듭니다.
+     */
+    public AuthorizationRequest begin() {
+        byte[] state = randomBytes(STATE_BYTES);
+        byte[] verifier = randomBytes(VERIFIER_BYTES);
+        String encodedVerifier = B64.encodeToString(verifier);
+
+        ByteBuffer plain = ByteBuffer.allocate(Long.BYTES + STATE_BYTES + VERIFIER_BYTES);
+        plain.putLong(System.currentTimeMillis()).put(state).put(verifier);
+
+        byte[] iv = randomBytes(IV_BYTES);
+        byte[] sealed;
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(AAD);
+            sealed = cipher.doFinal(plain.array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to seal OAuth state", e);
+        }
+
+        byte[] cookie = ByteBuffer.allocate(1 + IV_BYTES + sealed.length)
+                .put(VERSION).put(iv).put(sealed).array();
+        return new AuthorizationRequest(B64.encodeToString(state), codeChallenge(encodedVerifier),
+                B64.encodeToString(cookie));
+    }
+
+    /**
+     * 콜백의 state를 쿠키와 대조하고, 성공하면 토큰 교환에 쓸 code_verifier를 반환합니다.
+     * 같은 state와 같은 코드의 중복 콜백은 같은 code_verifier를 반환합니다.
+     * @param cookieValue begin()이 발급한 쿠키 값
+     * @param state 콜백 쿼리의 state
+     * @param code 콜백 쿼리의 인가 코드
+     * @return PKCE code_verifier
+     * @throws InvalidOAuthStateException 쿠키 누락/위조, state 불일치, 만료, 다른 코드로의 재사용 시
+     */
+    public String complete(String cookieValue, String state, String code) {
+        if (cookieValue == null || cookieValue.isEmpty() || state == null || state.isEmpty() || code == null) {
+            throw new InvalidOAuthStateException("Missing OAuth state");
+        }
+        ByteBuffer plain = open(cookieValue);
+        long issuedAt = plain.getLong();
+        byte[] expectedState = new byte[STATE_BYTES];
+        byte[] verifier = new byte[VERIFIER_BYTES];
+        plain.get(expectedState).get(verifier);
+
+        byte[] presentedState;
+        try {
+            presentedState = B64_DECODER.decode(state);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidOAuthStateException("Malformed OAuth state");
+        }
+        // 상수 시간 비교 (길이가 달라도 내용 비교 시간으로 정보가 새지 않음)
+        if (!MessageDigest.isEqual(expectedState, presentedState)) {
+            throw new InvalidOAuthStateException("OAuth state mismatch");
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = issuedAt + properties.getTtl().toMillis();
+        if (now > expiresAt) {
+            throw new InvalidOAuthStateException("OAuth state expired");
+        }
+        if (!markUsed(state, sha256(code), expiresAt, now)) {
+            throw new InvalidOAuthStateException("OAuth state already used");
+        }
+        return B64.encodeToString(verifier);
+    }
+
+    private ByteBuffer open(String cookieValue) {
+        byte[] raw;
+        try {
+            raw = B64_DECODER.decode(cookieValue);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidOAuthStateException("Malformed OAuth state cookie");
+        }
+        if (raw.length <= 1 + IV_BYTES || raw[0] != VERSION) {
+            throw new InvalidOAuthStateException("Malformed OAuth state cookie");
+        }
+        try {
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, raw, 1, IV_BYTES));
+            cipher.updateAAD(AAD);
+            byte[] plain = cipher.doFinal(raw, 1 + IV_BYTES, raw.length - 1 - IV_BYTES);
+            if (plain.length != Long.BYTES + STATE_BYTES + VERIFIER_BYTES) {
+                throw new InvalidOAuthStateException("Malformed OAuth state cookie");
+            }
+            return ByteBuffer.wrap(plain);
+        } catch (AEADBadTagException e) {
+            throw new InvalidOAuthStateException("OAuth state cookie failed verification", e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to open OAuth state", e);
+        }
+    }
+
+    // 만료된 항목을 정리한 뒤 state를 기록. 이미 다른 코드로 사용된 state면 false
+    private synchronized boolean markUsed(String state, byte[] codeHash, long expiresAt, long now) {
+        Iterator<UsedState> it = usedStates.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().expiresAt() < now || usedStates.size() >= properties.getReplayCacheSize()) {
+                it.remove();
+            } else {
+                break;
+            }
+        }
+        UsedState previous = usedStates.putIfAbsent(state, new UsedState(codeHash, expiresAt));
+        return previous == null || MessageDigest.isEqual(previous.codeHash(), codeHash);
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String codeChallenge(String verifier) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(verifier.getBytes(StandardCharsets.US_ASCII));
+            return B64.encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static SecretKey deriveKey(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            byte[] key = mac.doFinal("oauth-state-encryption".getBytes(StandardCharsets.US_ASCII));
+            return new SecretKeySpec(Arrays.copyOf(key, 32), "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to derive OAuth state key", e);
+        }
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private record UsedState(byte[] codeHash, long expiresAt) {
+    }
+
+    /**
+     * Google 인증 페이지로 보낼 state/PKCE 챌린지와 브라우저에 저장할 쿠키 값
+     */
+    public record AuthorizationRequest(String state, String codeChallenge, String cookieValue) {
+    }
+}
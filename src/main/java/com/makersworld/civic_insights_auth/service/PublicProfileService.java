@@ -0,0 +1,187 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.ProfileBatchProperties;
+import com.makersworld.civic_insights_auth.dto.ProfileBatchResponse;
+import com.makersworld.civic_insights_auth.dto.ProfileSummary;
+import com.makersworld.civic_insights_auth.dto.PublicProfileDto;
+import com.makersworld.civic_insights_auth.repository.UserProfileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 목록/피드 렌더링용 일괄 공개 프로필 조회 서비스
+ *
+ * 캐시에 없는 사용자만 users + user_profiles 조인 IN 쿼리(청크 단위)로 한 번에 조회하고,
+ * 결과(존재하지 않는 사용자 포함)를 짧은 TTL 동안 캐시합니다.
+ * 트랜잭션을 열지 않으므로 전부 캐시에서 찾으면 DB 커넥션을 사용하지 않으며,
+ * 청크 쿼리는 리포지토리의 읽기 전용 트랜잭션으로 실행되어 복제본 라우팅 대상이 됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PublicProfileService {
+
+    private static final String ID_KEY = "id:";
+    private static final String EMAIL_KEY = "email:";
+
+    private final UserProfileRepository userProfileRepository;
+    private final ProfileBatchProperties properties;
+    private final AvatarCacheService avatarCacheService;
+
+    // "id:{userId}" / "email:{email}" -> 조회 결과 (summary가 null이면 없는 사용자)
+    private final Map<String, CachedSummary> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 ID/이메일 목록의 공개 프로필을 요청 순서대로 조회합니다.
+     * @param userIds 사용자 ID 목록 (null 허용)
+     * @param emails 이메일 목록 (null 허용, 대소문자 무시)
+     * @return 찾은 프로필(요청 순서: userIds 다음 emails)과 찾지 못한 항목
+     * @throws IllegalArgumentException 요청 크기가 최대값을 넘는 경우
+     */
+    public ProfileBatchResponse lookup(List<Long> userIds, List<String> emails) {
+        Set<Long> ids = userIds == null ? new LinkedHashSet<>() : new LinkedHashSet<>(userIds);
+        Set<String> mails = new LinkedHashSet<>();
+        if (emails != null) {
+            for (String email : emails) {
+                if (email != null) {
+                    mails.add(normalizeEmail(email));
+                }
+            }
+        }
+        ids.remove(null);
+        if (ids.size() + mails.size() > properties.getMaxSize()) {
+            throw new IllegalArgumentException("At most " + properties.getMaxSize() + " users per request");
+        }
+
+        long now = System.currentTimeMillis();
+        Map<Long, ProfileSummary> byId = resolve(ids, ID_KEY, userProfileRepository::findSummariesByUserIds,
+                ProfileSummary::userId, now);
+        Map<String, ProfileSummary> byEmail = resolve(mails, EMAIL_KEY, userProfileRepository::findSummariesByEmails,
+                summary -> normalizeEmail(summary.email()), now);
+
+        List<PublicProfileDto> profiles = new ArrayList<>(byId.size() + byEmail.size());
+        List<Long> missingIds = new ArrayList<>();
+        List<String> missingEmails = new ArrayList<>();
+        for (Long id : ids) {
+            ProfileSummary summary = byId.get(id);
+            if (summary == null) {
+                missingIds.add(id);
+            } else {
+                profiles.add(toPublic(summary));
+            }
+        }
+        for (String email : mails) {
+            ProfileSummary summary = byEmail.get(email);
+            if (summary == null) {
+                missingEmails.add(email);
+            } else {
+                profiles.add(toPublic(summary));
+            }
+        }
+        return new ProfileBatchResponse(profiles, missingIds, missingEmails);
+    }
+
+    /**
+     * 프로필이 수정된 사용자의 캐시 항목을 제거합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 제거합니다.
+     * (커밋 전에 제거하면 동시 조회가 이전 행을 다시 읽어 TTL 동안 캐시할 수 있기 때문)
+     */
+    public void evict(Long userId, String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId, email);
+                }
+            });
+        } else {
+            evictNow(userId, email);
+        }
+    }
+
+    private void evictNow(Long userId, String email) {
+        cache.remove(ID_KEY + userId);
+        if (email != null) {
+            cache.remove(EMAIL_KEY + normalizeEmail(email));
+        }
+    }
+
+    private <K> Map<K, ProfileSummary> resolve(Set<K> keys, String prefix,
+                                                Function<Collection<K>, List<ProfileSummary>> query,
+                                                Function<ProfileSummary, K> keyOf, long now) {
+        Map<K, ProfileSummary> result = new HashMap<>();
+        List<K> misses = new ArrayList<>();
+        for (K key : keys) {
+            CachedSummary cached = cache.get(prefix + key);
+            if (cached != null && cached.expiresAt() > now) {
+                if (cached.summary() != null) {
+                    result.put(key, cached.summary());
+                }
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long expiresAt = now + properties.getCacheTtl().toMillis();
+        int chunkSize = properties.getChunkSize();
+        for (int from = 0; from < misses.size(); from += chunkSize) {
+            List<K> chunk = misses.subList(from, Math.min(from + chunkSize, misses.size()));
+            for (ProfileSummary summary : query.apply(chunk)) {
+                result.put(keyOf.apply(summary), summary);
+                // 같은 사용자를 다른 키로 조회할 때도 재사용되도록 ID/이메일 양쪽에 저장
+                CachedSummary entry = new CachedSummary(summary, expiresAt);
+                cache.put(ID_KEY + summary.userId(), entry);
+                cache.put(EMAIL_KEY + normalizeEmail(summary.email()), entry);
+            }
+        }
+        // 없는 사용자도 캐시하여 반복 조회 시 DB를 다시 찌르지 않음
+        for (K key : misses) {
+            if (!result.containsKey(key)) {
+                cache.put(prefix + key, new CachedSummary(null, expiresAt));
+            }
+        }
+        trim(now);
+        return result;
+    }
+
+    private void trim(long now) {
+        if (cache.size() > properties.getCacheMaxEntries()) {
+            cache.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (cache.size() > properties.getCacheMaxEntries()) {
+                cache.clear();
+            }
+        }
+    }
+
+    // MySQL 이메일 컬럼(utf8mb4_unicode_ci)은 대소문자를 구분하지 않으므로 조회 키/캐시 키/응답도 같은 기준으로 맞춤
+    private static String normalizeEmail(String email) {
+        return email.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private PublicProfileDto toPublic(ProfileSummary summary) {
+        return PublicProfileDto.builder()
+                .userId(summary.userId())
+                .name(summary.name())
+                .avatarUrl(avatarCacheService.publicUrlFor(summary.avatarUrl()))
+                .location(summary.location())
+                .build();
+    }
+
+    private record CachedSummary(ProfileSummary summary, long expiresAt) {
+    }
+}
@@ -0,0 +1,229 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.JwtProperties;
+import com.makersworld.civic_insights_auth.config.ReferenceTokenProperties;
+import com.makersworld.civic_insights_auth.model.ReferenceToken;
+import com.makersworld.civic_insights_auth.repository.ReferenceTokenRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 불투명 참조 토큰(phantom token 패턴) 발급 및 교환 서비스
+ *
+ * 클라이언트에는 32자 랜덤 핸들만 발급하고, 핸들 -> 클레임 매핑은 메모리 테이블에 보관합니다.
+ * 다른 인스턴스가 발급한 핸들도 교환할 수 있도록 핸들 해시를 DB에 기록하되, 발급(로그인/갱신) 요청 경로에서
+ * 바로 쓰지 않고 flush 주기마다 모아서 한 트랜잭션으로 저장합니다(write-behind).
+ * 메모리에 없으면 DB에서 읽어 채우며, 다른 인스턴스가 아직 저장하지 않았을 수 있으므로 flush 주기만큼 기다린 뒤 한 번 더 조회합니다.
+ * 게이트웨이가 교환을 요청하면 핸들 만료 시각에 맞춘 JWT를 한 번만 서명하고 이후에는 캐시된 JWT를 반환합니다.
+ * 핸들에는 발급 시점의 사용자 보안 버전이 기록되어, 전체 로그아웃으로 버전이 오르면 교환이 거부됩니다.
+ * (다른 인스턴스에는 TokenVersionRegistry TTL 이내에 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReferenceTokenService {
+
+    // 24바이트 랜덤 -> Base64URL 32자
+    private static final int HANDLE_BYTES = 24;
+
+    private final ReferenceTokenProperties properties;
+    private final JwtProperties jwtProperties;
+    private final ReferenceTokenRepository referenceTokenRepository;
+    private final JwtService jwtService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // 아직 DB에 저장하지 않은 발급 핸들 (flushPending에서 일괄 저장)
+    private final Queue<ReferenceToken> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 사용자에게 새 참조 토큰 핸들을 발급합니다.
+     * @param email 사용자 이메일
+     * @param role 사용자 역할
+     * @param tokenVersion 사용자 보안 버전
+     * @return 불투명 핸들
+     */
+    public String issue(String email, String role, int tokenVersion) {
+        byte[] random = new byte[HANDLE_BYTES];
+        secureRandom.nextBytes(random);
+        String handle = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+        long expiresAt = System.currentTimeMillis() + jwtProperties.getExpirationMs();
+
+        entries.put(handle, new Entry(email, role, tokenVersion, expiresAt));
+        pendingWrites.add(ReferenceToken.builder()
+                .handleHash(hash(handle))
+                .email(email)
+                .role(role)
+                .tokenVersion(tokenVersion)
+                .expiresAt(new Timestamp(expiresAt))
+                .build());
+        return handle;
+    }
+
+    /**
+     * 참조 토큰 핸들을 서명된 JWT로 교환합니다.
+     * @param handle 불투명 핸들
+     * @return 교환 결과, 알 수 없거나 만료/폐기된 핸들이면 null
+     */
+    public Exchange exchange(String handle) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(handle);
+        if (entry == null) {
+            entry = loadFromDatabase(handle);
+            if (entry == null) {
+                return null;
+            }
+            now = System.currentTimeMillis();
+        }
+        if (entry.expiresAt <= now) {
+            entries.remove(handle, entry);
+            return null;
+        }
+        // 전체 로그아웃으로 보안 버전이 올랐으면 폐기된 핸들
+        Integer currentVersion = tokenVersionRegistry.currentVersion(entry.email);
+        if (currentVersion == null || currentVersion.intValue() != entry.tokenVersion) {
+            entries.remove(handle, entry);
+            return null;
+        }
+
+        // 핸들당 JWT는 한 번만 서명하고 재사용 (경쟁 시 중복 서명은 무해)
+        String jwt = entry.jwt;
+        if (jwt == null) {
+            jwt = jwtService.generateTokenExpiringAt(entry.email, entry.role, entry.expiresAt);
+            entry.jwt = jwt;
+        }
+        long expiresIn = (entry.expiresAt - now) / 1000;
+        return new Exchange(jwt, expiresIn, Math.min(expiresIn, properties.getExchangeCacheMaxAge().toSeconds()));
+    }
+
+    // 다른 인스턴스가 발급한 핸들은 DB에서 조회하여 메모리 테이블에 적재
+    // 발급 인스턴스가 아직 flush하지 않았을 수 있으므로 없으면 flush 주기만큼 기다린 뒤 한 번 더 조회
+    private Entry loadFromDatabase(String handle) {
+        String handleHash = hash(handle);
+        ReferenceToken token = referenceTokenRepository.findByHandleHash(handleHash).orElse(null);
+        if (token == null) {
+            try {
+                Thread.sleep(properties.getFlushInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            token = referenceTokenRepository.findByHandleHash(handleHash).orElse(null);
+            if (token == null) {
+                return null;
+            }
+        }
+        Entry loaded = new Entry(token.getEmail(), token.getRole(), token.getTokenVersion(),
+                token.getExpiresAt().getTime());
+        Entry existing = entries.putIfAbsent(handle, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 사용자에게 발급된 모든 핸들을 폐기합니다. (전체 로그아웃)
+     * 다른 인스턴스의 메모리 테이블에 남은 핸들은 교환 시 보안 버전 비교로 거부됩니다.
+     * @param email 사용자 이메일
+     */
+    public void revokeAll(String email) {
+        entries.values().removeIf(entry -> entry.email.equals(email));
+        pendingWrites.removeIf(token -> token.getEmail().equals(email));
+        referenceTokenRepository.deleteByEmail(email);
+    }
+
+    /**
+     * 발급 후 아직 저장하지 않은 핸들을 한 트랜잭션으로 DB에 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.auth.reference-tokens.flush-interval:PT0.2S}")
+    public void flushPending() {
+        List<ReferenceToken> batch = new ArrayList<>();
+        ReferenceToken token;
+        while ((token = pendingWrites.poll()) != null) {
+            batch.add(token);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            referenceTokenRepository.saveAll(batch);
+        } catch (RuntimeException e) {
+            // 발급한 인스턴스에서는 메모리 테이블로 계속 교환 가능, 다른 인스턴스에서만 교환 실패
+            log.warn("Failed to persist {} reference tokens: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushPending();
+    }
+
+    /**
+     * 만료된 핸들을 메모리와 DB에서 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.auth.reference-tokens.sweep-interval:PT1M}")
+    public void sweepExpired() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        int deleted = referenceTokenRepository.deleteExpired(new Timestamp(now));
+        if (deleted > 0) {
+            log.debug("Swept {} expired reference tokens", deleted);
+        }
+    }
+
+    private static String hash(String handle) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(handle.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 핸들 교환 결과
+     * @param accessToken 서명된 JWT
+     * @param expiresIn 남은 유효 시간 (초)
+     * @param cacheMaxAge 게이트웨이가 응답을 캐시할 수 있는 시간 (초)
+     */
+    public record Exchange(String accessToken, long expiresIn, long cacheMaxAge) {
+    }
+
+    // 메모리 테이블 항목 (JWT는 최초 교환 시 채워짐)
+    private static final class Entry {
+        private final String email;
+        private final String role;
+        private final int tokenVersion;
+        private final long expiresAt;
+        private volatile String jwt;
+
+        Entry(String email, String role, int tokenVersion, long expiresAt) {
+            this.email = email;
+            this.role = role;
+            this.tokenVersion = tokenVersion;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.TokenVersionProperties;
+import com.makersworld.civic_insights_auth.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 보안 버전(users.token_version)의 메모리 미러
+ *
+ * 리프레시 토큰에는 발급 시점의 보안 버전이 담기며, 갱신 시 이 레지스트리의 현재 버전과 비교합니다.
+ * 다른 인스턴스의 무효화를 전달받는 수단이 없으므로 TTL(기본 60초)을 짧게 유지하여 반영 지연의 상한으로 삼습니다.
+ * 따라서 로그인/이전 갱신 후 TTL 이내의 갱신(재시도, 여러 탭의 동시 갱신 등)만 DB 조회 없이 처리되고,
+ * 액세스 토큰 만료(기본 24시간) 후의 일반적인 갱신은 버전 컬럼 하나를 조회합니다. (읽기 전용 트랜잭션이므로 복제본 사용)
+ * 메모리 항목 수는 maxEntries로 제한됩니다.
+ * 전체 로그아웃 시 DB 버전을 올리고 로컬 항목을 커밋 이후 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenVersionRegistry {
+
+    private final UserRepository userRepository;
+    private final TokenVersionProperties properties;
+
+    private final Map<String, VersionEntry> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자의 현재 보안 버전을 반환합니다.
+     * @param email 사용자 이메일
+     * @return 현재 버전, 사용자가 없으면 null
+     */
+    public Integer currentVersion(String email) {
+        long now = System.currentTimeMillis();
+        VersionEntry entry = versions.get(email);
+        if (entry != null && now - entry.loadedAt() < properties.getCacheTtl().toMillis()) {
+            return entry.version();
+        }
+        Integer version = userRepository.findTokenVersionByEmail(email).orElse(null);
+        if (version == null) {
+            versions.remove(email);
+            return null;
+        }
+        store(email, version, now);
+        return version;
+    }
+
+    /**
+     * 이미 조회한 사용자의 버전을 기록합니다. (로그인 시 추가 조회를 피하기 위해 사용)
+     */
+    public void remember(String email, int version) {
+        store(email, version, System.currentTimeMillis());
+    }
+
+    /**
+     * 사용자의 보안 버전을 올려 기존 리프레시 토큰을 모두 무효화합니다. (전체 로그아웃)
+     * @return 사용자가 존재하여 버전이 올라갔는지 여부
+     */
+    public boolean bump(String email) {
+        boolean updated = userRepository.incrementTokenVersion(email) > 0;
+        invalidateAfterCommit(email);
+        return updated;
+    }
+
+    /**
+     * 로컬 캐시 항목을 트랜잭션 커밋 이후에 제거합니다.
+     * 커밋 전에 제거하면 동시 요청이 이전 버전을 다시 읽어 TTL 동안 캐시할 수 있기 때문입니다.
+     */
+    public void invalidateAfterCommit(String email) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versions.remove(email);
+                }
+            });
+        } else {
+            versions.remove(email);
+        }
+    }
+
+    private void store(String email, int version, long now) {
+        if (versions.size() >= properties.getMaxEntries() && !versions.containsKey(email)) {
+            prune(now);
+        }
+        versions.put(email, new VersionEntry(version, now));
+    }
+
+    // TTL이 지난 항목을 제거하고, 그래도 상한의 3/4 이상이면 전체를 비움
+    // (정리 직후 다시 가득 차 매 저장마다 전체 순회하지 않도록 여유를 남김)
+    private void prune(long now) {
+        long ttlMillis = properties.getCacheTtl().toMillis();
+        versions.values().removeIf(entry -> now - entry.loadedAt() >= ttlMillis);
+        if (versions.size() >= properties.getMaxEntries() * 3L / 4) {
+            versions.clear();
+        }
+    }
+
+    private record VersionEntry(int version, long loadedAt) {
+    }
+}
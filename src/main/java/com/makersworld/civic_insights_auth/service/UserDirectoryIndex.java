@@ -0,0 +1,237 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.dto.UserDirectoryEntry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 사용자 디렉터리 인메모리 n-gram 역색인
+ *
+ * 이름/이메일/지역/자기소개를 소문자로 정규화하여 2-gram, 3-gram 게시 목록(gram -> 사용자 ID)에 넣고,
+ * 검색어의 n-gram 게시 목록 교집합으로 후보를 좁힌 뒤 원문으로 다시 확인하여 점수를 매깁니다.
+ * 검색 비용은 테이블 크기가 아니라 후보 수에 비례합니다.
+ * 이메일은 접두사 일치만 인정합니다. (도메인 부분 일치로 무관한 사용자가 섞이지 않도록)
+ * 갱신은 사용자 단위로 직렬화되고, 검색은 잠금 없이 수행합니다.
+ */
+public class UserDirectoryIndex {
+
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+
+    // 필드 가중치
+    private static final int NAME_WEIGHT = 4;
+    private static final int EMAIL_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int BIO_WEIGHT = 1;
+
+    // 일치 종류 점수 (단어 시작 위치의 부분 일치는 접두사로 취급)
+    private static final int EXACT = 3;
+    private static final int PREFIX = 2;
+    private static final int SUBSTRING = 1;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingInt(Hit::score).reversed()
+            .thenComparing(hit -> hit.entry().name(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(hit -> hit.entry().userId());
+
+    private final int maxFieldLength;
+
+    // 사용자 ID -> 정규화된 색인 문서
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    // n-gram -> 해당 n-gram을 포함하는 사용자 ID
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxFieldLength 필드별 색인 최대 길이 (초과분은 색인하지 않음)
+     */
+    public UserDirectoryIndex(int maxFieldLength) {
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    /**
+     * 사용자 항목을 추가하거나 교체합니다. 바뀐 n-gram의 게시 목록만 갱신합니다.
+     */
+    public void put(UserDirectoryEntry entry) {
+        putUnless(entry, userId -> false);
+    }
+
+    /**
+     * put과 같지만, 사용자 단위 잠금 안에서 skip이 true이면 기존 항목을 그대로 둡니다.
+     * (재구축이 읽은 이전 행이 그 사이 증분 갱신된 항목을 덮어쓰지 않도록 확인과 교체를 원자적으로 수행)
+     */
+    public void putUnless(UserDirectoryEntry entry, Predicate<Long> skip) {
+        Document document = Document.of(entry, maxFieldLength);
+        documents.compute(entry.userId(), (userId, previous) -> {
+            if (skip.test(userId)) {
+                return previous;
+            }
+            Set<String> oldGrams = previous == null ? Set.of() : previous.grams();
+            Set<String> newGrams = document.grams();
+            for (String gram : oldGrams) {
+                if (!newGrams.contains(gram)) {
+                    postings.computeIfPresent(gram, (key, ids) -> {
+                        ids.remove(userId);
+                        return ids.isEmpty() ? null : ids;
+                    });
+                }
+            }
+            for (String gram : newGrams) {
+                if (!oldGrams.contains(gram)) {
+                    // 빈 게시 목록 제거와 경합하지 않도록 추가도 compute 안에서 수행
+                    postings.compute(gram, (key, ids) -> {
+                        Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                        target.add(userId);
+                        return target;
+                    });
+                }
+            }
+            return document;
+        });
+    }
+
+    public Optional<UserDirectoryEntry> get(Long userId) {
+        Document document = documents.get(userId);
+        return document == null ? Optional.empty() : Optional.of(document.entry());
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * 접두사/부분 문자열 검색을 수행하고 순위에 따라 정렬된 한 페이지를 반환합니다.
+     * @param query 검색어 (대소문자 무시, 2자 이상)
+     * @param offset 건너뛸 결과 수
+     * @param limit 최대 결과 수
+     * @throws IllegalArgumentException 검색어가 너무 짧은 경우
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        String q = query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+        if (q.length() < MIN_GRAM) {
+            throw new IllegalArgumentException("Query must be at least " + MIN_GRAM + " characters");
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (Long userId : candidates(q)) {
+            Document document = documents.get(userId);
+            int score = document == null ? 0 : document.score(q);
+            if (score > 0) {
+                hits.add(new Hit(document.entry(), score));
+            }
+        }
+        hits.sort(RANKING);
+
+        int from = Math.min(offset, hits.size());
+        int to = Math.min(from + limit, hits.size());
+        return new SearchResult(hits.size(), List.copyOf(hits.subList(from, to)));
+    }
+
+    // 검색어의 모든 n-gram을 포함하는 사용자 (작은 게시 목록부터 교집합)
+    private Set<Long> candidates(String q) {
+        int n = Math.min(MAX_GRAM, q.length());
+        List<Set<Long>> lists = new ArrayList<>();
+        for (int i = 0; i + n <= q.length(); i++) {
+            Set<Long> ids = postings.get(q.substring(i, i + n));
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 검색 결과 항목
+     */
+    public record Hit(UserDirectoryEntry entry, int score) {
+    }
+
+    /**
+     * 검색 결과 한 페이지와 전체 일치 수
+     */
+    public record SearchResult(int total, List<Hit> hits) {
+    }
+
+    // 원본 항목과 소문자로 정규화/절단한 검색 필드
+    private record Document(UserDirectoryEntry entry, String name, String email, String location, String bio) {
+
+        static Document of(UserDirectoryEntry entry, int maxLength) {
+            return new Document(entry, normalize(entry.name(), maxLength), normalize(entry.email(), maxLength),
+                    normalize(entry.location(), maxLength), normalize(entry.bio(), maxLength));
+        }
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            addGrams(grams, name);
+            addGrams(grams, email);
+            addGrams(grams, location);
+            addGrams(grams, bio);
+            return grams;
+        }
+
+        int score(String q) {
+            return match(name, q, false) * NAME_WEIGHT
+                    + match(email, q, true) * EMAIL_WEIGHT
+                    + match(location, q, false) * LOCATION_WEIGHT
+                    + match(bio, q, false) * BIO_WEIGHT;
+        }
+
+        private static int match(String text, String q, boolean prefixOnly) {
+            if (text == null) {
+                return 0;
+            }
+            if (text.equals(q)) {
+                return EXACT;
+            }
+            if (text.startsWith(q)) {
+                return PREFIX;
+            }
+            if (prefixOnly) {
+                return 0;
+            }
+            int at = text.indexOf(q);
+            if (at < 0) {
+                return 0;
+            }
+            for (; at >= 0; at = text.indexOf(q, at + 1)) {
+                if (!Character.isLetterOrDigit(text.charAt(at - 1))) {
+                    return PREFIX;
+                }
+            }
+            return SUBSTRING;
+        }
+
+        private static void addGrams(Set<String> grams, String text) {
+            if (text == null) {
+                return;
+            }
+            for (int n = MIN_GRAM; n <= MAX_GRAM; n++) {
+                for (int i = 0; i + n <= text.length(); i++) {
+                    grams.add(text.substring(i, i + n));
+                }
+            }
+        }
+
+        private static String normalize(String value, int maxLength) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            String normalized = value.strip().toLowerCase(Locale.ROOT);
+            return normalized.length() > maxLength ? normalized.substring(0, maxLength) : normalized;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.UserDirectoryProperties;
+import com.makersworld.civic_insights_auth.dto.UserDirectoryEntry;
+import com.makersworld.civic_insights_auth.dto.UserSearchHit;
+import com.makersworld.civic_insights_auth.dto.UserSearchResponse;
+import com.makersworld.civic_insights_auth.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관리자/내부용 사용자 디렉터리 검색 서비스
+ *
+ * 이름, 이메일 접두사, 지역, 자기소개를 인메모리 n-gram 색인(UserDirectoryIndex)으로 검색하여
+ * LIKE '%x%' 전체 스캔 없이 테이블 크기와 무관한 지연으로 응답합니다.
+ * 기동 시(readiness 전) ID 범위 청크를 병렬로 읽어 색인을 구축하고,
+ * 이후에는 로그인/이름 변경/프로필 수정이 커밋된 뒤 해당 사용자만 갱신합니다.
+ */
+@Slf4j
+@Service
+public class UserDirectoryService implements ApplicationRunner {
+
+    private final UserRepository userRepository;
+    private final UserDirectoryProperties properties;
+    private final UserDirectoryIndex index;
+
+    // 재구축 중 증분 갱신된 사용자 (재구축 청크가 읽은 이전 값으로 덮어쓰지 않도록)
+    private volatile Set<Long> touchedDuringRebuild;
+
+    public UserDirectoryService(UserRepository userRepository, UserDirectoryProperties properties) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.index = new UserDirectoryIndex(properties.getMaxIndexedFieldLength());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isRebuildOnStartup()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB에서 색인을 다시 구축합니다. 사용자 ID 범위를 청크로 나누어 병렬로 읽습니다.
+     * @return 색인한 사용자 수
+     */
+    public int rebuild() {
+        long start = System.nanoTime();
+        long maxId = userRepository.findMaxId();
+        int chunkSize = Math.max(1, properties.getRebuildChunkSize());
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getRebuildParallelism()), r -> {
+            Thread t = new Thread(r, "user-directory-rebuild-" + threadIds.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+        try {
+            List<Future<Integer>> chunks = new ArrayList<>();
+            for (long from = 1; from <= maxId; from += chunkSize) {
+                long fromId = from;
+                long toId = Math.min(from + chunkSize - 1, maxId);
+                chunks.add(executor.submit(() -> loadChunk(fromId, toId)));
+            }
+            int indexed = 0;
+            for (Future<Integer> chunk : chunks) {
+                indexed += chunk.get();
+            }
+            log.info("User directory index rebuilt: {} users in {} chunks, {} ms",
+                    indexed, chunks.size(), (System.nanoTime() - start) / 1_000_000);
+            return indexed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("User directory rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("User directory rebuild failed", e.getCause());
+        } finally {
+            touchedDuringRebuild = null;
+            executor.shutdownNow();
+        }
+    }
+
+    private int loadChunk(long fromId, long toId) {
+        List<UserDirectoryEntry> entries = userRepository.findDirectoryEntries(fromId, toId);
+        for (UserDirectoryEntry entry : entries) {
+            // 증분 갱신은 touched에 먼저 기록한 뒤 같은 사용자 잠금으로 색인하므로,
+            // 잠금 안에서 확인하면 갱신이 앞서면 건너뛰고 뒤따르면 갱신이 덮어씀
+            index.putUnless(entry, userId -> {
+                Set<Long> touched = touchedDuringRebuild;
+                return touched != null && touched.contains(userId);
+            });
+        }
+        return entries.size();
+    }
+
+    /**
+     * 사용자를 검색합니다.
+     * @param query 검색어 (이름/지역/자기소개는 부분 문자열, 이메일은 접두사)
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기
+     * @throws IllegalArgumentException 검색어가 너무 짧거나 페이지 인자가 잘못된 경우
+     */
+    public UserSearchResponse search(String query, int page, int size) {
+        if (query == null || query.strip().length() < properties.getMinQueryLength()) {
+            throw new IllegalArgumentException("Query must be at least " + properties.getMinQueryLength() + " characters");
+        }
+        if (page < 0 || size < 1 || size > properties.getMaxPageSize()) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + properties.getMaxPageSize());
+        }
+
+        UserDirectoryIndex.SearchResult result = index.search(query, (int) Math.min(Integer.MAX_VALUE, (long) page * size), size);
+        List<UserSearchHit> hits = result.hits().stream()
+                .map(hit -> UserSearchHit.builder()
+                        .userId(hit.entry().userId())
+                        .email(hit.entry().email())
+                        .name(hit.entry().name())
+                        .location(hit.entry().location())
+                        .score(hit.score())
+                        .build())
+                .toList();
+        return new UserSearchResponse(query, page, size, result.total(), hits);
+    }
+
+    /**
+     * 가입/로그인/이름 변경 후 사용자 기본 정보를 색인합니다. (프로필 필드는 기존 색인 값 유지)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+     */
+    public void indexUser(Long userId, String email, String name) {
+        afterCommit(userId, () -> {
+            UserDirectoryEntry current = index.get(userId).orElse(null);
+            index.put(new UserDirectoryEntry(userId, email, name,
+                    current != null ? current.location() : null,
+                    current != null ? current.bio() : null));
+        });
+    }
+
+    /**
+     * 프로필 수정 후 사용자를 다시 색인합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다.
+     */
+    public void indexProfile(Long userId, String email, String name, String location, String bio) {
+        afterCommit(userId, () -> index.put(new UserDirectoryEntry(userId, email, name, location, bio)));
+    }
+
+    private void afterCommit(Long userId, Runnable update) {
+        Runnable apply = () -> {
+            Set<Long> touched = touchedDuringRebuild;
+            if (touched != null) {
+                touched.add(userId);
+            }
+            update.run();
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.makersworld.civic_insights_auth.service;
 
+import com.makersworld.civic_insights_auth.config.ReadYourWritesTracker;
 import com.makersworld.civic_insights_auth.dto.UpdateProfileRequest;
 import com.makersworld.civic_insights_auth.dto.UserProfileDto;
 import com.makersworld.civic_insights_auth.model.User;
@@ -17,13 +18,23 @@ public class UserProfileService {
 
     private final UserProfileRepository userProfileRepository;
     private final UserRepository userRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AvatarCacheService avatarCacheService;
+    private final PublicProfileService publicProfileService;
+    private final UserDirectoryService userDirectoryService;
 
+    // 읽기 전용: 복제본 라우팅 시 복제본에서 조회 (최근 수정한 사용자는 프라이머리로 고정)
+    @Transactional(readOnly = true)
     public UserProfileDto getUserProfile(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user;
+        UserProfile profile;
+        try (ReadYourWritesTracker.Pin pin = readYourWritesTracker.pinIfRecentlyWritten(email)) {
+            user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
 
-        UserProfile profile = userProfileRepository.findByUserId(user.getId())
-                .orElseThrow(() -> new RuntimeException("User profile not found - this should not happen"));
+            profile = userProfileRepository.findByUserId(user.getId())
+                    .orElseThrow(() -> new RuntimeException("User profile not found - this should not happen"));
+        }
 
         return UserProfileDto.builder()
                 .id(profile.getId())
@@ -33,7 +44,7 @@ public class UserProfileService {
                 .location(profile.getLocation())
                 .website(profile.getWebsite())
                 .phoneNumber(profile.getPhoneNumber())
-                .avatarUrl(profile.getAvatarUrl())
+                .avatarUrl(avatarCacheService.publicUrlFor(profile.getAvatarUrl()))
                 .build();
     }
 
@@ -53,6 +64,12 @@ public class UserProfileService {
         );
 
         userProfileRepository.save(profile);
+        readYourWritesTracker.markWrite(email);
+        publicProfileService.evict(user.getId(), email);
+        userDirectoryService.indexProfile(user.getId(), user.getEmail(), user.getName(),
+                profile.getLocation(), profile.getBio());
+        // 변경된 아바타는 백그라운드에서 로컬 캐시로 가져옴
+        avatarCacheService.requestFetch(profile.getAvatarUrl());
 
         return UserProfileDto.builder()
                 .id(profile.getId())
@@ -62,7 +79,7 @@ public class UserProfileService {
                 .location(profile.getLocation())
                 .website(profile.getWebsite())
                 .phoneNumber(profile.getPhoneNumber())
-                .avatarUrl(profile.getAvatarUrl())
+                .avatarUrl(avatarCacheService.publicUrlFor(profile.getAvatarUrl()))
                 .build();
     }
 } 
\ No newline at end of file
@@ -17,6 +17,7 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserDirectoryService userDirectoryService;
 
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
@@ -25,10 +26,11 @@ public class UserService {
     public User createOrUpdateGoogleUser(GoogleUserInfoResponse googleUser) {
         Optional<User> existingUser = findByEmail(googleUser.getEmail());
         
+        User saved;
         if (existingUser.isPresent()) {
             User user = existingUser.get();
             user.updateName(googleUser.getName());
-            return userRepository.save(user);
+            saved = userRepository.save(user);
         } else {
             User newUser = User.builder()
                     .email(googleUser.getEmail())
@@ -37,8 +39,10 @@ public class UserService {
                     .providerId(googleUser.getId())
                     .role(Role.USER.name())
                     .build();
-            return userRepository.save(newUser);
+            saved = userRepository.save(newUser);
         }
+        userDirectoryService.indexUser(saved.getId(), saved.getEmail(), saved.getName());
+        return saved;
     }
 
     public User save(User user) {
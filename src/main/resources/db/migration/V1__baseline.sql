@@ -1,4 +1,8 @@
-CREATE TABLE `users` (
+-- V1: 기준 스키마 (Flyway 도입 전 배포된 schema.sql과 동일)
+-- 이미 테이블이 있는 기존 DB는 baseline-on-migrate로 버전 1을 기준선으로 기록하고 이 파일을 실행하지 않습니다.
+-- 이후 스키마 변경은 V2__설명.sql 처럼 새 파일로 추가하며, 적용된 파일은 체크섬 검증 대상이므로 수정하지 않습니다.
+
+CREATE TABLE IF NOT EXISTS `users` (
   `id` BIGINT NOT NULL AUTO_INCREMENT,
   `email` VARCHAR(255) NOT NULL,
   `password` VARCHAR(255) NULL,
@@ -12,7 +16,7 @@ CREATE TABLE `users` (
   UNIQUE INDEX `uk_email` (`email` ASC)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
-CREATE TABLE `user_profiles` (
+CREATE TABLE IF NOT EXISTS `user_profiles` (
   `id` BIGINT NOT NULL AUTO_INCREMENT,
   `user_id` BIGINT NOT NULL,
   `bio` TEXT NULL,
@@ -25,4 +29,4 @@ CREATE TABLE `user_profiles` (
   PRIMARY KEY (`id`),
   UNIQUE INDEX `uk_user_id` (`user_id` ASC),
   CONSTRAINT `fk_user_profiles_user_id` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`) ON DELETE CASCADE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci; 
\ No newline at end of file
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,29 @@
+-- V2: 사용자 보안 버전(리프레시 토큰 무효화), 참조 토큰, 서비스 클라이언트(client_credentials)
+-- 기준선(V1)으로 기록된 기존 DB에도 적용되도록 V1과 분리합니다.
+
+ALTER TABLE `users` ADD COLUMN `token_version` INT NOT NULL DEFAULT 0 AFTER `role`;
+
+CREATE TABLE IF NOT EXISTS `reference_tokens` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `handle_hash` VARCHAR(64) NOT NULL,
+  `email` VARCHAR(255) NOT NULL,
+  `role` VARCHAR(50) NOT NULL,
+  `expires_at` TIMESTAMP NOT NULL,
+  `created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  UNIQUE INDEX `uk_handle_hash` (`handle_hash` ASC),
+  INDEX `idx_reference_tokens_expires_at` (`expires_at` ASC)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS `service_clients` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `client_id` VARCHAR(100) NOT NULL,
+  `secret_hash` VARCHAR(100) NOT NULL,
+  `name` VARCHAR(255) NOT NULL,
+  `scopes` VARCHAR(1000) NOT NULL,
+  `enabled` BOOLEAN NOT NULL DEFAULT TRUE,
+  `created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  UNIQUE INDEX `uk_client_id` (`client_id` ASC)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
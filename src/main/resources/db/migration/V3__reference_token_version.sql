@@ -0,0 +1,4 @@
+-- V3: 참조 토큰에 발급 시점의 사용자 보안 버전 기록 (전체 로그아웃 시 다른 인스턴스의 핸들도 교환 거부)
+
+ALTER TABLE `reference_tokens` ADD COLUMN `token_version` INT NOT NULL DEFAULT 0 AFTER `role`;
+CREATE INDEX `idx_reference_tokens_email` ON `reference_tokens` (`email`);
@@ -0,0 +1,208 @@
+package com.makersworld.civic_insights_auth;
+
+import com.makersworld.civic_insights_auth.config.GatewayAccessVerifier;
+import com.makersworld.civic_insights_auth.config.SecurityProperties;
+import com.makersworld.civic_insights_auth.controller.UserProfileController;
+import com.makersworld.civic_insights_auth.model.User;
+import com.makersworld.civic_insights_auth.model.UserProfile;
+import com.makersworld.civic_insights_auth.repository.UserProfileRepository;
+import com.makersworld.civic_insights_auth.repository.UserRepository;
+import com.makersworld.civic_insights_auth.security.JwtRequestAuthenticator;
+import com.makersworld.civic_insights_auth.security.PreAuthenticationFilter;
+import com.makersworld.civic_insights_auth.security.RouteTable;
+import com.makersworld.civic_insights_auth.service.JwtService;
+import com.makersworld.civic_insights_auth.service.JwtTokenMinter;
+import com.makersworld.civic_insights_auth.support.AllocationMeter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 핫 경로별 1회당 할당량 회귀 테스트
+ *
+ * 각 경로를 프로세스 안에서 워밍업 후 반복 실행하여 스레드 할당량을 측정하고,
+ * 저장소에 체크인된 예산(allocation-budgets.properties)을 넘으면 실패합니다.
+ * 파서 재생성, 요청마다 만드는 컬렉션 같은 GC 부담 증가를 조기에 잡기 위한 테스트입니다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew allocationBudget 으로 실행합니다.
+ */
+@Tag("allocation")
+@SpringBootTest
+@ActiveProfiles("offline")
+@TestPropertySource(properties = {
+		"app.avatar.cache-enabled=false",
+		"logging.level.com.makersworld.civic_insights_auth=INFO"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AllocationBudgetTests {
+
+	private static final int WARMUP = Integer.getInteger("alloc.warmup", 5_000);
+	private static final int ITERATIONS = Integer.getInteger("alloc.iterations", 2_000);
+	private static final Path REPORT_DIR = Path.of("build", "reports", "allocation");
+	private static final String EMAIL = "alloc-budget@example.com";
+	private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+	private final Properties budgets = new Properties();
+	private final Map<String, Long> measured = new TreeMap<>();
+
+	@Autowired
+	private GatewayAccessVerifier gatewayAccessVerifier;
+
+	@Autowired
+	private JwtRequestAuthenticator jwtRequestAuthenticator;
+
+	@Autowired
+	private SecurityProperties securityProperties;
+
+	@Autowired
+	private JwtService jwtService;
+
+	@Autowired
+	private JwtTokenMinter jwtTokenMinter;
+
+	@Autowired
+	private UserProfileController userProfileController;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserProfileRepository userProfileRepository;
+
+	private PreAuthenticationFilter filter;
+	private String accessToken;
+
+	@BeforeAll
+	void setUp() throws IOException {
+		try (InputStream in = getClass().getResourceAsStream("/allocation-budgets.properties")) {
+			budgets.load(in);
+		}
+		filter = new PreAuthenticationFilter(RouteTable.defaults(), gatewayAccessVerifier, jwtRequestAuthenticator);
+		accessToken = jwtService.generateToken(EMAIL, "USER");
+		if (userRepository.findByEmail(EMAIL).isEmpty()) {
+			User user = userRepository.save(User.builder()
+					.email(EMAIL).name("Allocation Budget").provider("GOOGLE").providerId("alloc").role("USER")
+					.build());
+			userProfileRepository.save(UserProfile.builder().user(user).bio("bio").location("Seoul").build());
+		}
+	}
+
+	@Test
+	void gatewayOnlyRoute() throws Exception {
+		MockHttpServletRequest request = gatewayRequest("/api/v1/auth/refresh");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertWithinBudget("pre-auth.gateway-only", () -> filter.doFilter(request, response, NO_OP_CHAIN));
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void authenticatedRoute() throws Exception {
+		MockHttpServletRequest request = gatewayRequest("/api/v1/profile");
+		request.addHeader("Authorization", "Bearer " + accessToken);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertWithinBudget("pre-auth.authenticated", () -> {
+			SecurityContextHolder.clearContext();
+			filter.doFilter(request, response, NO_OP_CHAIN);
+		});
+		assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo(EMAIL);
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void expiredTokenRejectedBeforeSignatureCheck() throws Exception {
+		long issuedAt = System.currentTimeMillis() - 120_000;
+		String expired = jwtTokenMinter.mint(EMAIL, "USER", issuedAt, 60_000);
+		MockHttpServletRequest request = gatewayRequest("/api/v1/profile");
+		request.addHeader("Authorization", "Bearer " + expired);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		assertWithinBudget("pre-auth.expired-token", () -> filter.doFilter(request, response, NO_OP_CHAIN));
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+	}
+
+	@Test
+	void validateToken() throws Exception {
+		long parseOnce = assertWithinBudget("jwt.parse-claims", () -> jwtService.parseVerifiedClaims(accessToken));
+		long validate = assertWithinBudget("jwt.validate-token", () -> jwtService.validateToken(accessToken, EMAIL));
+
+		// 서명 검증을 두 번 하면 절대 예산과 무관하게 1회 파싱 대비 할당량이 두 배 가까이 됨
+		assertThat(validate)
+				.as("validateToken allocated %d bytes/op, single parse %d bytes/op", validate, parseOnce)
+				.isLessThanOrEqualTo(parseOnce * 12 / 10);
+	}
+
+	@Test
+	void getProfile() throws Exception {
+		Authentication authentication = new UsernamePasswordAuthenticationToken(EMAIL, null, AuthorityUtils.NO_AUTHORITIES);
+
+		assertWithinBudget("profile.get", () -> userProfileController.getProfile(authentication));
+	}
+
+	@AfterAll
+	void writeReport() throws IOException {
+		Files.createDirectories(REPORT_DIR);
+		try (Writer out = Files.newBufferedWriter(REPORT_DIR.resolve("allocation-report.txt"), StandardCharsets.UTF_8)) {
+			out.write(String.format("%-24s %12s %12s %12s%n", "path", "budget", "measured", "delta"));
+			for (Map.Entry<String, Long> entry : measured.entrySet()) {
+				long budget = budgetOf(entry.getKey());
+				out.write(String.format("%-24s %12d %12d %+12d%n", entry.getKey(), budget, entry.getValue(),
+						entry.getValue() - budget));
+			}
+		}
+		if (Boolean.getBoolean("alloc.rebaseline")) {
+			Properties suggested = new Properties();
+			measured.forEach((path, bytes) -> suggested.setProperty(path, Long.toString(bytes * 12 / 10)));
+			try (Writer out = Files.newBufferedWriter(REPORT_DIR.resolve("allocation-budgets.properties"), StandardCharsets.UTF_8)) {
+				suggested.store(out, "Measured bytes per operation + 20%");
+			}
+		}
+	}
+
+	private long assertWithinBudget(String path, AllocationMeter.Operation operation) throws Exception {
+		long bytes = AllocationMeter.bytesPerOperation(WARMUP, ITERATIONS, operation);
+		measured.put(path, bytes);
+		long budget = budgetOf(path);
+		assertThat(bytes)
+				.as("%s allocated %d bytes/op, budget %d (delta %+d bytes/op)", path, bytes, budget, bytes - budget)
+				.isLessThanOrEqualTo(budget);
+		return bytes;
+	}
+
+	private long budgetOf(String path) {
+		String value = budgets.getProperty(path);
+		assertThat(value).as("allocation budget for %s", path).isNotNull();
+		return Long.parseLong(value.trim());
+	}
+
+	private MockHttpServletRequest gatewayRequest(String uri) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+		request.addHeader("X-Gateway-Internal", securityProperties.getGatewayToken());
+		return request;
+	}
+}
@@ -0,0 +1,137 @@
+package com.makersworld.civic_insights_auth.benchmark;
+
+import com.makersworld.civic_insights_auth.dto.AuthResponse;
+import com.makersworld.civic_insights_auth.repository.UserRepository;
+import com.makersworld.civic_insights_auth.service.AuthService;
+import com.makersworld.civic_insights_auth.service.JwtService;
+import com.makersworld.civic_insights_auth.support.FakeGoogleOAuth2Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔드투엔드 Google 로그인 처리량/지연 벤치마크 (인가 코드 -> JWT -> DB 행)
+ *
+ * 가짜 Google 프로바이더와 H2를 사용하므로 완전히 오프라인으로 실행됩니다.
+ * ./gradlew benchmark -Dbench.signins=2000 -Dbench.threads=16 -Dbench.google-latency-ms=20
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("offline")
+class SignInBenchmark {
+
+	private static final FakeGoogleOAuth2Server GOOGLE = FakeGoogleOAuth2Server.start()
+			.latency(Duration.ofMillis(Long.getLong("bench.google-latency-ms", 0L)));
+
+	@DynamicPropertySource
+	static void googleEndpoints(DynamicPropertyRegistry registry) {
+		registry.add("app.oauth2.google.authorization-uri", GOOGLE::authorizationUri);
+		registry.add("app.oauth2.google.token-uri", GOOGLE::tokenUri);
+		registry.add("app.oauth2.google.user-info-uri", GOOGLE::userInfoUri);
+	}
+
+	@AfterAll
+	static void stopGoogle() {
+		GOOGLE.close();
+	}
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private JwtService jwtService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void signInThroughputAndLatency() throws Exception {
+		int signIns = Integer.getInteger("bench.signins", 2000);
+		int threads = Integer.getInteger("bench.threads", 16);
+		int warmup = Integer.getInteger("bench.warmup", 200);
+
+		run(warmup, threads, "warmup");
+		long usersBefore = userRepository.count();
+
+		long[] latencies = new long[signIns];
+		AtomicInteger failures = new AtomicInteger();
+		long elapsed = run(signIns, threads, latencies, failures, "bench");
+
+		// 모든 로그인이 사용자 행을 만들고 검증 가능한 JWT를 반환했는지 확인
+		assertThat(failures.get()).isZero();
+		assertThat(userRepository.count() - usersBefore).isEqualTo(signIns);
+
+		Arrays.sort(latencies);
+		System.out.printf("[sign-in benchmark] signIns=%d threads=%d googleLatencyMs=%d%n",
+				signIns, threads, Long.getLong("bench.google-latency-ms", 0L));
+		System.out.printf("  throughput=%.1f ops/s%n", signIns / (elapsed / 1_000_000_000.0));
+		System.out.printf("  latency p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms%n",
+				percentileMs(latencies, 0.50), percentileMs(latencies, 0.95),
+				percentileMs(latencies, 0.99), latencies[latencies.length - 1] / 1_000_000.0);
+	}
+
+	private void run(int count, int threads, String prefix) throws Exception {
+		run(count, threads, new long[count], new AtomicInteger(), prefix);
+	}
+
+	private long run(int count, int threads, long[] latencies, AtomicInteger failures, String prefix) throws Exception {
+		// 인가 코드는 측정 구간 밖에서 미리 발급
+		String[] emails = new String[count];
+		String[] codes = new String[count];
+		for (int i = 0; i < count; i++) {
+			emails[i] = prefix + "-" + System.nanoTime() + "-" + i + "@example.com";
+			codes[i] = GOOGLE.issueCode(emails[i], "Bench User " + i);
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		AtomicInteger next = new AtomicInteger();
+		List<Future<?>> workers = new ArrayList<>();
+		long start = System.nanoTime();
+		for (int t = 0; t < threads; t++) {
+			workers.add(pool.submit(() -> {
+				int i;
+				while ((i = next.getAndIncrement()) < count) {
+					long begin = System.nanoTime();
+					try {
+						AuthResponse response = authService.signInWithGoogle(codes[i]);
+						if (!emails[i].equals(jwtService.extractEmail(response.getAccessToken()))) {
+							failures.incrementAndGet();
+						}
+					} catch (RuntimeException e) {
+						failures.incrementAndGet();
+					}
+					latencies[i] = System.nanoTime() - begin;
+				}
+			}));
+		}
+		for (Future<?> worker : workers) {
+			worker.get();
+		}
+		long elapsed = System.nanoTime() - start;
+		pool.shutdown();
+		pool.awaitTermination(10, TimeUnit.SECONDS);
+		return elapsed;
+	}
+
+	private static double percentileMs(long[] sorted, double percentile) {
+		int index = (int) Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+	}
+}
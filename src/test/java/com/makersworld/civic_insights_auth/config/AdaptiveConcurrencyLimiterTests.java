@@ -0,0 +1,77 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTests {
+
+	private static final long FAST = Duration.ofMillis(10).toNanos();
+	private static final long SLOW = Duration.ofMillis(500).toNanos();
+
+	@Test
+	void rejectsRequestsBeyondLimitWithoutQueueing() {
+		AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 10, 0.5);
+
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isFalse();
+		assertThat(limiter.getInFlight()).isEqualTo(2);
+		assertThat(limiter.getRejected()).isEqualTo(1);
+	}
+
+	@Test
+	void fastCompletionUnderLoadIncreasesLimitByOne() {
+		AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 5, 0.5);
+		acquire(limiter, 4);
+
+		limiter.release(FAST, false);
+		assertThat(limiter.getLimit()).isEqualTo(5);
+
+		// 상한 이상으로는 늘지 않음
+		limiter.release(FAST, false);
+		limiter.release(FAST, false);
+		assertThat(limiter.getLimit()).isEqualTo(5);
+	}
+
+	@Test
+	void fastCompletionWhileMostlyIdleKeepsLimit() {
+		AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100, 0.5);
+		acquire(limiter, 1);
+
+		limiter.release(FAST, false);
+
+		assertThat(limiter.getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void slowOrOverloadedCompletionDecreasesLimitMultiplicatively() {
+		AdaptiveConcurrencyLimiter limiter = limiter(16, 3, 100, 0.5);
+		acquire(limiter, 3);
+
+		limiter.release(SLOW, false);
+		assertThat(limiter.getLimit()).isEqualTo(8);
+
+		limiter.release(FAST, true);
+		assertThat(limiter.getLimit()).isEqualTo(4);
+
+		// 하한 아래로는 줄지 않음
+		limiter.release(SLOW, true);
+		assertThat(limiter.getLimit()).isEqualTo(3);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	private static void acquire(AdaptiveConcurrencyLimiter limiter, int permits) {
+		for (int i = 0; i < permits; i++) {
+			assertThat(limiter.tryAcquire()).isTrue();
+		}
+	}
+
+	private static AdaptiveConcurrencyLimiter limiter(int initial, int min, int max, double backoffRatio) {
+		ConcurrencyLimitProperties.Limit settings = new ConcurrencyLimitProperties.Limit(initial, min, max, Duration.ofMillis(100));
+		settings.setBackoffRatio(backoffRatio);
+		return new AdaptiveConcurrencyLimiter("test", settings);
+	}
+}
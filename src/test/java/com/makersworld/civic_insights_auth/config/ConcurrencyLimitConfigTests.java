@@ -0,0 +1,46 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 동시성 한도에 걸린 요청이 대기하지 않고 503(Retry-After)으로 거부되는지 검증
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("offline")
+@TestPropertySource(properties = {
+		"app.avatar.cache-enabled=false",
+		// 한도 0: 모든 갱신 요청이 과부하 상태처럼 거부됨
+		"app.auth.concurrency-limit.refresh.initial-limit=0",
+		"app.auth.concurrency-limit.refresh.min-limit=0"
+})
+class ConcurrencyLimitConfigTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private SecurityProperties securityProperties;
+
+	@Test
+	void overloadedEndpointIsRejectedWithServiceUnavailable() throws Exception {
+		mockMvc.perform(post("/api/v1/auth/refresh")
+						.header("X-Gateway-Internal", securityProperties.getGatewayToken())
+						.param("refreshToken", "ignored"))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string("Retry-After", "1"))
+				.andExpect(jsonPath("$.status").value(503))
+				.andExpect(jsonPath("$.message").value("Too many concurrent requests"));
+	}
+}
@@ -0,0 +1,34 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 조회 청크 크기가 1 미만이면(0은 무한 루프, 음수는 예외) 기동 시 바인딩이 실패하는지 검증
+ */
+class ProfileBatchPropertiesTests {
+
+	private final ApplicationContextRunner runner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class,
+					ValidationAutoConfiguration.class))
+			.withUserConfiguration(ProfileBatchProperties.class);
+
+	@Test
+	void rejectsNonPositiveChunkSize() {
+		runner.withPropertyValues("app.profiles.batch.chunk-size=0")
+				.run(context -> assertThat(context).hasFailed());
+		runner.withPropertyValues("app.profiles.batch.chunk-size=-1")
+				.run(context -> assertThat(context).hasFailed());
+	}
+
+	@Test
+	void acceptsPositiveChunkSize() {
+		runner.withPropertyValues("app.profiles.batch.chunk-size=1")
+				.run(context -> assertThat(context.getBean(ProfileBatchProperties.class).getChunkSize()).isEqualTo(1));
+	}
+}
@@ -0,0 +1,47 @@
+package com.makersworld.civic_insights_auth.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshTokenKeyProviderTests {
+
+	private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+	@Test
+	void instancesWithTheSameSecretDeriveTheSameKey() {
+		RefreshTokenKeyProvider first = newInstance(SECRET, true);
+		RefreshTokenKeyProvider second = newInstance(SECRET, true);
+		String keyId = first.currentKeyId();
+
+		assertThat(second.getKey(keyId).getEncoded()).isEqualTo(first.getKey(keyId).getEncoded());
+	}
+
+	@Test
+	void failsFastWithoutSecretWhenRequired() {
+		assertThatThrownBy(() -> newInstance("", true))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("app.auth.refresh-tokens.secret");
+	}
+
+	@Test
+	void fallsBackToEphemeralSecretWhenNotRequired() {
+		RefreshTokenKeyProvider provider = newInstance(null, false);
+
+		assertThat(provider.getKey(provider.currentKeyId())).isNotNull();
+	}
+
+	private static RefreshTokenKeyProvider newInstance(String secret, boolean required) {
+		RefreshTokenProperties properties = new RefreshTokenProperties();
+		properties.setSecret(secret);
+		properties.setSecretRequired(required);
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setRefreshExpiration(604_800_000L);
+		RefreshTokenKeyProvider provider = new RefreshTokenKeyProvider(properties, jwtProperties);
+		provider.init();
+		return provider;
+	}
+}
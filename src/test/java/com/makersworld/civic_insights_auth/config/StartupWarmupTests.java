@@ -0,0 +1,135 @@
+package com.makersworld.civic_insights_auth.config;
+
+import com.makersworld.civic_insights_auth.CivicInsightsAuthApplication;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.availability.ReadinessStateHealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 워밍업이 끝날 때까지 readiness가 OUT_OF_SERVICE로 유지되고,
+ * Google에 연결할 수 없어도 시간 제한 안에 기동이 끝나 트래픽을 받는지 검증
+ */
+class StartupWarmupTests {
+
+	private final List<Object> timeline = new CopyOnWriteArrayList<>();
+	private final AtomicReference<ConfigurableApplicationContext> starting = new AtomicReference<>();
+	private ConfigurableApplicationContext context;
+	private HttpServer google;
+	private ServerSocket blackhole;
+
+	@AfterEach
+	void tearDown() throws Exception {
+		if (context != null) {
+			context.close();
+		}
+		if (google != null) {
+			google.stop(0);
+		}
+		if (blackhole != null) {
+			blackhole.close();
+		}
+	}
+
+	@Test
+	void readinessStaysOutOfServiceUntilWarmupCompletes() throws Exception {
+		google = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		google.createContext("/", exchange -> {
+			// 사전 연결 요청이 도착한 시점은 워밍업 도중이므로 readiness 상태를 기록
+			timeline.add("preconnect");
+			timeline.add(readinessStatus());
+			exchange.sendResponseHeaders(200, -1);
+			exchange.close();
+		});
+		google.start();
+		String base = "http://127.0.0.1:" + google.getAddress().getPort();
+
+		context = start(base + "/token", base + "/userinfo", "PT1S", "PT10S");
+
+		assertThat(timeline).startsWith("preconnect", Status.OUT_OF_SERVICE);
+		assertThat(timeline.indexOf(ReadinessState.ACCEPTING_TRAFFIC)).isGreaterThan(timeline.lastIndexOf("preconnect"));
+		assertThat(readinessStatus()).isEqualTo(Status.UP);
+	}
+
+	@Test
+	void unreachableGoogleDoesNotBlockReadiness() throws Exception {
+		// 연결 거부(닫힌 포트)와 응답 없음(accept하지 않는 소켓)을 각각 흉내냄
+		int closedPort;
+		try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			closedPort = socket.getLocalPort();
+		}
+		blackhole = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		AtomicLong startedAt = new AtomicLong();
+		AtomicLong readyAt = new AtomicLong();
+
+		context = start("http://127.0.0.1:" + closedPort + "/token",
+				"http://127.0.0.1:" + blackhole.getLocalPort() + "/userinfo", "PT30S", "PT2S",
+				event -> {
+					if (event instanceof ApplicationStartedEvent) {
+						startedAt.set(System.nanoTime());
+					} else if (event instanceof AvailabilityChangeEvent<?> change
+							&& change.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+						readyAt.set(System.nanoTime());
+					}
+				});
+
+		assertThat(readinessStatus()).isEqualTo(Status.UP);
+		// 호출 타임아웃(30초)이 아니라 워밍업 시간 제한(2초)에 묶여 준비 상태로 전환되어야 함
+		assertThat(Duration.ofNanos(readyAt.get() - startedAt.get())).isLessThan(Duration.ofSeconds(10));
+	}
+
+	private ConfigurableApplicationContext start(String tokenUri, String userInfoUri, String callTimeout,
+			String timeBudget) {
+		return start(tokenUri, userInfoUri, callTimeout, timeBudget, event -> { });
+	}
+
+	private ConfigurableApplicationContext start(String tokenUri, String userInfoUri, String callTimeout,
+			String timeBudget, ApplicationListener<ApplicationEvent> extraListener) {
+		ApplicationListener<ApplicationEvent> recorder = event -> {
+			if (event instanceof AvailabilityChangeEvent<?> change && change.getState() instanceof ReadinessState) {
+				timeline.add(change.getState());
+			}
+			extraListener.onApplicationEvent(event);
+		};
+		return new SpringApplicationBuilder(CivicInsightsAuthApplication.class)
+				.profiles("offline")
+				.properties(
+						"server.port=0",
+						"app.warmup.enabled=true",
+						"app.warmup.token-iterations=10",
+						"app.warmup.preconnect-google=true",
+						"app.warmup.time-budget=" + timeBudget,
+						"app.oauth2.google.token-uri=" + tokenUri,
+						"app.oauth2.google.user-info-uri=" + userInfoUri,
+						"app.oauth2.google.call-timeout=" + callTimeout,
+						"app.avatar.cache-enabled=false")
+				.initializers(starting::set)
+				.listeners(recorder)
+				.run();
+	}
+
+	private Status readinessStatus() {
+		ApplicationAvailability availability = starting.get().getBean(ApplicationAvailability.class);
+		return new ReadinessStateHealthIndicator(availability).health().getStatus();
+	}
+}
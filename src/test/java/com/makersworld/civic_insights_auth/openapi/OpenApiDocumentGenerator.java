@@ -0,0 +1,60 @@
+package com.makersworld.civic_insights_auth.openapi;
+
+import com.makersworld.civic_insights_auth.config.SecurityProperties;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 빌드 시 OpenAPI 문서 생성기 (./gradlew generateOpenApi, bootJar가 자동 실행)
+ *
+ * 오프라인 프로필로 애플리케이션을 띄워 springdoc이 생성한 문서를 받아
+ * openapi.json과 미리 압축한 openapi.json.gz로 저장합니다. 운영 프로필은 이 파일을 정적으로 제공합니다.
+ */
+@Tag("openapi")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("offline")
+@TestPropertySource(properties = {
+		"springdoc.api-docs.enabled=true",
+		"app.avatar.cache-enabled=false"
+})
+class OpenApiDocumentGenerator {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private SecurityProperties securityProperties;
+
+	@Test
+	void generate() throws Exception {
+		byte[] document = mockMvc.perform(get("/v3/api-docs")
+						.header("X-Gateway-Internal", securityProperties.getGatewayToken()))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsByteArray();
+		assertThat(document).isNotEmpty();
+
+		Path outputDir = Path.of(System.getProperty("openapi.output-dir", "build/generated/openapi"))
+				.resolve("META-INF/openapi");
+		Files.createDirectories(outputDir);
+		Files.write(outputDir.resolve("openapi.json"), document);
+		try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(outputDir.resolve("openapi.json.gz")))) {
+			out.write(document);
+		}
+	}
+}
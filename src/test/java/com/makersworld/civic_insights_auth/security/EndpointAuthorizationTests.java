@@ -0,0 +1,106 @@
+package com.makersworld.civic_insights_auth.security;
+
+import com.makersworld.civic_insights_auth.config.SecurityProperties;
+import com.makersworld.civic_insights_auth.service.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 내부/관리자 전용 엔드포인트가 일반 사용자 토큰을 거부하는지 검증
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("offline")
+@TestPropertySource(properties = "app.avatar.cache-enabled=false")
+class EndpointAuthorizationTests {
+
+	private static final String BATCH_BODY = "{\"emails\":[\"nobody@example.com\"]}";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtService jwtService;
+
+	@Autowired
+	private SecurityProperties securityProperties;
+
+	@Test
+	void batchProfileLookupRejectsUserTokens() throws Exception {
+		batchLookup(jwtService.generateToken("user@example.com", "USER")).andExpect(status().isForbidden());
+	}
+
+	@Test
+	void batchProfileLookupRejectsServiceTokensWithoutScope() throws Exception {
+		batchLookup(serviceToken("reports:write")).andExpect(status().isForbidden());
+	}
+
+	@Test
+	void batchProfileLookupAllowsScopedServiceAndAdmin() throws Exception {
+		batchLookup(serviceToken("profiles:read reports:write")).andExpect(status().isOk());
+		batchLookup(jwtService.generateToken("admin@example.com", "ADMIN")).andExpect(status().isOk());
+	}
+
+	@Test
+	void directorySearchRequiresAdminOrSearchScope() throws Exception {
+		directorySearch(jwtService.generateToken("user@example.com", "USER")).andExpect(status().isForbidden());
+		directorySearch(serviceToken("profiles:read")).andExpect(status().isForbidden());
+		directorySearch(serviceToken("users:search")).andExpect(status().isOk());
+		directorySearch(jwtService.generateToken("admin@example.com", "ADMIN")).andExpect(status().isOk());
+	}
+
+	@Test
+	void actuatorMetricsRequireAdmin() throws Exception {
+		actuator("/actuator/metrics", jwtService.generateToken("user@example.com", "USER")).andExpect(status().isForbidden());
+		actuator("/actuator/circuitbreakers", serviceToken("profiles:read")).andExpect(status().isForbidden());
+		actuator("/actuator/metrics", jwtService.generateToken("admin@example.com", "ADMIN")).andExpect(status().isOk());
+	}
+
+	@Test
+	void logoutEverywhereRejectsServiceTokens() throws Exception {
+		mockMvc.perform(post("/api/v1/auth/logout-all")
+						.header("X-Gateway-Internal", securityProperties.getGatewayToken())
+						.header("Authorization", "Bearer " + serviceToken("profiles:read")))
+				.andExpect(status().isForbidden());
+		mockMvc.perform(post("/api/v1/auth/logout-all")
+						.header("X-Gateway-Internal", securityProperties.getGatewayToken())
+						.header("Authorization", "Bearer " + jwtService.generateToken("nobody@example.com", "USER")))
+				.andExpect(status().isUnauthorized());
+	}
+
+	private ResultActions actuator(String path, String token) throws Exception {
+		return mockMvc.perform(get(path)
+				.header("X-Gateway-Internal", securityProperties.getGatewayToken())
+				.header("Authorization", "Bearer " + token));
+	}
+
+	private ResultActions directorySearch(String token) throws Exception {
+		return mockMvc.perform(get("/api/v1/admin/users/search")
+				.param("q", "seoul")
+				.header("X-Gateway-Internal", securityProperties.getGatewayToken())
+				.header("Authorization", "Bearer " + token));
+	}
+
+	private ResultActions batchLookup(String token) throws Exception {
+		return mockMvc.perform(post("/api/v1/profiles/batch")
+				.header("X-Gateway-Internal", securityProperties.getGatewayToken())
+				.header("Authorization", "Bearer " + token)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(BATCH_BODY));
+	}
+
+	private String serviceToken(String scope) {
+		return jwtService.generateClientToken("batch-client", scope, System.currentTimeMillis() + 60_000);
+	}
+}
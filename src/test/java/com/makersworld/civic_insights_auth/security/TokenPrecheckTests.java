@@ -0,0 +1,83 @@
+package com.makersworld.civic_insights_auth.security;
+
+import com.makersworld.civic_insights_auth.config.JwtKeyProvider;
+import com.makersworld.civic_insights_auth.service.JwtTokenMinter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenPrecheckTests {
+
+	private static final String BEARER = "Bearer ";
+
+	private SimpleMeterRegistry registry;
+	private TokenPrecheck precheck;
+	private JwtTokenMinter minter;
+	private long now;
+
+	@BeforeEach
+	void setUp() {
+		JwtKeyProvider keyProvider = new JwtKeyProvider();
+		keyProvider.init();
+		minter = new JwtTokenMinter(keyProvider);
+		registry = new SimpleMeterRegistry();
+		precheck = new TokenPrecheck(JwtTokenMinter.RS256_HEADER_JSON, registry);
+		now = System.currentTimeMillis();
+	}
+
+	@Test
+	void passesFreshlyMintedToken() {
+		String token = minter.mint("user@example.com", "USER", now, 60_000);
+
+		assertThat(precheck.check(BEARER + token, BEARER.length(), now / 1000)).isNull();
+	}
+
+	@Test
+	void rejectsExpiredTokenWithoutVerifyingSignature() {
+		String token = minter.mint("user@example.com", "USER", now - 120_000, 60_000);
+
+		assertThat(check(token)).isEqualTo(TokenPrecheck.Rejection.EXPIRED);
+		assertThat(registry.counter("auth.token.precheck.rejected", "reason", "expired").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void rejectsStructurallyBrokenTokens() {
+		String token = minter.mint("user@example.com", "USER", now, 60_000);
+
+		assertThat(check("abc")).isEqualTo(TokenPrecheck.Rejection.LENGTH);
+		assertThat(check(token + ".extra")).isEqualTo(TokenPrecheck.Rejection.SEGMENTS);
+		assertThat(check(token.replace('.', 'A'))).isEqualTo(TokenPrecheck.Rejection.SEGMENTS);
+		assertThat(check(token.substring(0, 30) + "+" + token.substring(31))).isEqualTo(TokenPrecheck.Rejection.ALPHABET);
+	}
+
+	@Test
+	void rejectsUnexpectedAlgorithmHeader() {
+		String token = minter.mint("user@example.com", "USER", now, 60_000);
+		String noneHeader = encode("{\"alg\":\"none\"}");
+
+		assertThat(check(noneHeader + token.substring(token.indexOf('.'))))
+				.isEqualTo(TokenPrecheck.Rejection.HEADER);
+	}
+
+	@Test
+	void rejectsPayloadWithoutExp() {
+		String token = minter.mint("user@example.com", "USER", now, 60_000);
+		String[] parts = token.split("\\.");
+		String payload = encode("{\"role\":\"USER\",\"sub\":\"user@example.com\",\"iat\":1700000000}");
+
+		assertThat(check(parts[0] + "." + payload + "." + parts[2])).isEqualTo(TokenPrecheck.Rejection.PAYLOAD);
+	}
+
+	private TokenPrecheck.Rejection check(String token) {
+		return precheck.check(BEARER + token, BEARER.length(), now / 1000);
+	}
+
+	private static String encode(String json) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,120 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.CodeExchangeProperties;
+import com.makersworld.civic_insights_auth.dto.AuthResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthCodeExchangeCoalescerTests {
+
+	private final AuthCodeExchangeCoalescer coalescer = new AuthCodeExchangeCoalescer(new CodeExchangeProperties());
+
+	@Test
+	void duplicateWithSameVerifierSharesResult() {
+		AtomicInteger exchanges = new AtomicInteger();
+
+		AuthResponse first = coalescer.exchange("code-1", "verifier", () -> signedIn(exchanges));
+		AuthResponse second = coalescer.exchange("code-1", "verifier", () -> signedIn(exchanges));
+
+		assertThat(second).isSameAs(first);
+		assertThat(exchanges).hasValue(1);
+	}
+
+	@Test
+	void sameCodeWithoutOrWithWrongVerifierDoesNotReuseResult() {
+		AtomicInteger exchanges = new AtomicInteger();
+		coalescer.exchange("code-2", "verifier", () -> signedIn(exchanges));
+
+		// 가로챈 코드로 보낸 요청은 캐시된 토큰 대신 실제 교환(여기서는 Google의 invalid_grant)으로 진행
+		assertThatThrownBy(() -> coalescer.exchange("code-2", null, () -> {
+			throw new RuntimeException("invalid_grant");
+		})).hasMessage("invalid_grant");
+		assertThatThrownBy(() -> coalescer.exchange("code-2", "other-verifier", () -> {
+			throw new RuntimeException("invalid_grant");
+		})).hasMessage("invalid_grant");
+		assertThat(exchanges).hasValue(1);
+	}
+
+	@Test
+	void concurrentDuplicatesJoinTheInFlightExchange() throws Exception {
+		int threads = 8;
+		AtomicInteger exchanges = new AtomicInteger();
+		CountDownLatch upstreamEntered = new CountDownLatch(1);
+		CountDownLatch releaseUpstream = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<AuthResponse>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				results.add(executor.submit(() -> coalescer.exchange("code-3", "verifier", () -> {
+					upstreamEntered.countDown();
+					await(releaseUpstream);
+					return signedIn(exchanges);
+				})));
+			}
+			// 선행 요청이 Google 응답을 기다리는 동안 나머지 요청이 도착하도록 잠시 대기
+			assertThat(upstreamEntered.await(5, TimeUnit.SECONDS)).isTrue();
+			Thread.sleep(200);
+			releaseUpstream.countDown();
+
+			AuthResponse first = results.get(0).get(5, TimeUnit.SECONDS);
+			for (Future<AuthResponse> result : results) {
+				assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+			}
+			assertThat(exchanges).hasValue(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void concurrentExchangeWithAnotherVerifierDoesNotJoin() throws Exception {
+		AtomicInteger exchanges = new AtomicInteger();
+		CountDownLatch upstreamEntered = new CountDownLatch(1);
+		CountDownLatch releaseUpstream = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<AuthResponse> legitimate = executor.submit(() -> coalescer.exchange("code-4", "verifier", () -> {
+				upstreamEntered.countDown();
+				await(releaseUpstream);
+				return signedIn(exchanges);
+			}));
+			assertThat(upstreamEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+			// 진행 중인 교환이 있어도 다른 검증자로 보낸 요청은 합류하지 않고 자체 교환으로 진행
+			assertThatThrownBy(() -> coalescer.exchange("code-4", "other-verifier", () -> {
+				throw new RuntimeException("invalid_grant");
+			})).hasMessage("invalid_grant");
+
+			releaseUpstream.countDown();
+			assertThat(legitimate.get(5, TimeUnit.SECONDS)).isNotNull();
+			assertThat(exchanges).hasValue(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static AuthResponse signedIn(AtomicInteger exchanges) {
+		exchanges.incrementAndGet();
+		return new AuthResponse("access", "refresh", "Bearer", 86400L, "user@example.com", "User", "USER");
+	}
+}
@@ -0,0 +1,147 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.AvatarProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아바타 캐시의 원본 크기/픽셀 수 제한과 LRU 삭제 시 ref 파일 정리를 검증
+ */
+class AvatarCacheServiceTests {
+
+	@TempDir
+	Path cacheDir;
+
+	private final Map<String, byte[]> images = new ConcurrentHashMap<>();
+	private final AvatarProperties properties = new AvatarProperties();
+	private HttpServer server;
+	private AvatarCacheService service;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", exchange -> {
+			byte[] body = images.get(exchange.getRequestURI().getPath());
+			if (body == null) {
+				exchange.sendResponseHeaders(404, -1);
+				exchange.close();
+				return;
+			}
+			exchange.getResponseHeaders().add("Content-Type", "image/png");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+
+		properties.setCacheDir(cacheDir.toString());
+		service = new AvatarCacheService(properties, WebClient.create());
+		service.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+		server.stop(0);
+	}
+
+	@Test
+	void rejectsImagesOverPixelLimitWithoutCaching() throws IOException {
+		properties.setMaxSourcePixels(100 * 100);
+		String small = serve("/small.png", noisePng(80, 80, 1));
+		String large = serve("/large.png", noisePng(200, 200, 2));
+
+		service.fetchAndStore(small);
+		service.fetchAndStore(large);
+
+		assertThat(isCached(small)).isTrue();
+		assertThat(isCached(large)).isFalse();
+	}
+
+	@Test
+	void rejectsSourcesOverByteLimit() throws IOException {
+		byte[] png = noisePng(64, 64, 3);
+		String url = serve("/oversize.png", png);
+
+		properties.setMaxSourceBytes(png.length - 1);
+		service.fetchAndStore(url);
+		assertThat(isCached(url)).isFalse();
+
+		properties.setMaxSourceBytes(png.length);
+		service.fetchAndStore(url);
+		assertThat(isCached(url)).isTrue();
+	}
+
+	@Test
+	void evictionDeletesRefFiles() throws IOException {
+		String first = serve("/first.png", noisePng(64, 64, 4));
+		String second = serve("/second.png", noisePng(64, 64, 5));
+		service.fetchAndStore(first);
+		long firstSize = cachedBytes();
+		assertThat(refFiles()).isEqualTo(1);
+
+		// 두 번째 이미지를 저장하면 용량을 넘어 첫 번째(가장 오래 사용되지 않은) 이미지가 삭제됨
+		properties.setMaxCacheBytes(firstSize + firstSize / 2);
+		service.fetchAndStore(second);
+
+		assertThat(isCached(first)).isFalse();
+		assertThat(isCached(second)).isTrue();
+		assertThat(refFiles()).isEqualTo(1);
+	}
+
+	private String serve(String path, byte[] body) {
+		images.put(path, body);
+		return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+	}
+
+	// 캐시되어 있으면 로컬 URL을 반환 (테스트 원본은 http라 백그라운드 다운로드는 요청되지 않음)
+	private boolean isCached(String sourceUrl) {
+		return service.publicUrlFor(sourceUrl).startsWith(properties.getPublicBaseUrl());
+	}
+
+	private long cachedBytes() throws IOException {
+		try (Stream<Path> files = Files.list(cacheDir)) {
+			return files.filter(p -> p.toString().endsWith(".png")).mapToLong(p -> p.toFile().length()).sum();
+		}
+	}
+
+	private long refFiles() throws IOException {
+		try (Stream<Path> files = Files.list(cacheDir.resolve("refs"))) {
+			return files.count();
+		}
+	}
+
+	// 압축이 잘 되지 않는 잡음 이미지 (시드마다 다른 콘텐츠 해시)
+	private static byte[] noisePng(int width, int height, long seed) throws IOException {
+		Random random = new Random(seed);
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, random.nextInt(0x1000000));
+			}
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+}
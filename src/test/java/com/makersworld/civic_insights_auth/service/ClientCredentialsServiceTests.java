@@ -0,0 +1,86 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.dto.ClientTokenResponse;
+import com.makersworld.civic_insights_auth.model.ServiceClient;
+import com.makersworld.civic_insights_auth.repository.ServiceClientRepository;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static com.makersworld.civic_insights_auth.support.SqlStatementCounter.expectStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("offline")
+class ClientCredentialsServiceTests {
+
+	private static final String SECRET = "batch-secret";
+
+	@Autowired
+	private ClientCredentialsService clientCredentialsService;
+
+	@Autowired
+	private ServiceClientRepository serviceClientRepository;
+
+	@Autowired
+	private JwtService jwtService;
+
+	private String clientId;
+
+	@BeforeEach
+	void registerClient() {
+		clientId = "batch-" + UUID.randomUUID();
+		serviceClientRepository.save(ServiceClient.builder()
+				.clientId(clientId)
+				.secretHash(new BCryptPasswordEncoder().encode(SECRET))
+				.name("Nightly batch")
+				.scopes("profiles:read reports:write")
+				.enabled(true)
+				.build());
+	}
+
+	@Test
+	void issuesScopedServiceToken() {
+		ClientTokenResponse response = clientCredentialsService.issue(clientId, SECRET, "profiles:read");
+
+		Claims claims = jwtService.parseVerifiedClaims(response.getAccessToken());
+		assertThat(claims.getSubject()).isEqualTo(clientId);
+		assertThat(claims.get("scope", String.class)).isEqualTo("profiles:read");
+		assertThat(claims.get("role", String.class)).isEqualTo("SERVICE");
+	}
+
+	@Test
+	void repeatRequestReusesTokenWithoutDatabaseOrHashing() {
+		ClientTokenResponse first = clientCredentialsService.issue(clientId, SECRET, "reports:write profiles:read");
+
+		// 스코프 순서가 달라도 같은 스코프 집합이면 같은 토큰
+		ClientTokenResponse second = expectStatements(0,
+				() -> clientCredentialsService.issue(clientId, SECRET, "profiles:read reports:write"));
+
+		assertThat(second.getAccessToken()).isEqualTo(first.getAccessToken());
+		assertThat(second.getScope()).isEqualTo("profiles:read reports:write");
+	}
+
+	@Test
+	void rejectsWrongSecretEvenAfterSuccessfulVerification() {
+		clientCredentialsService.issue(clientId, SECRET, null);
+
+		assertThatThrownBy(() -> clientCredentialsService.issue(clientId, "wrong", null))
+				.isInstanceOf(ClientCredentialsException.class)
+				.extracting("error").isEqualTo(ClientCredentialsException.INVALID_CLIENT);
+	}
+
+	@Test
+	void rejectsScopeOutsideAllowedSet() {
+		assertThatThrownBy(() -> clientCredentialsService.issue(clientId, SECRET, "admin"))
+				.isInstanceOf(ClientCredentialsException.class)
+				.extracting("error").isEqualTo(ClientCredentialsException.INVALID_SCOPE);
+	}
+}
@@ -0,0 +1,141 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.SecurityProperties;
+import com.makersworld.civic_insights_auth.support.FakeGoogleOAuth2Server;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Google 장애 시 타임아웃/서킷 브레이커/벌크헤드가 GoogleOAuth2UnavailableException(503)으로 빠르게 실패하고,
+ * 서킷이 반열림(half-open) 상태에서 정상 응답을 받으면 다시 닫히는지 검증
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("offline")
+class GoogleOAuth2ResilienceTests {
+
+	private static final FakeGoogleOAuth2Server GOOGLE = FakeGoogleOAuth2Server.start();
+	private static final Duration CALL_TIMEOUT = Duration.ofMillis(500);
+	private static final Duration OPEN_STATE_WAIT = Duration.ofMillis(500);
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		registry.add("app.oauth2.google.authorization-uri", GOOGLE::authorizationUri);
+		registry.add("app.oauth2.google.token-uri", GOOGLE::tokenUri);
+		registry.add("app.oauth2.google.user-info-uri", GOOGLE::userInfoUri);
+		registry.add("app.oauth2.google.call-timeout", () -> CALL_TIMEOUT.toMillis() + "ms");
+		registry.add("app.avatar.cache-enabled", () -> "false");
+		// 엔드포인트 동시성 제한이 벌크헤드보다 먼저 거부하지 않도록 끔
+		registry.add("app.auth.concurrency-limit.enabled", () -> "false");
+		registry.add("resilience4j.bulkhead.instances.google.max-concurrent-calls", () -> "1");
+		registry.add("resilience4j.circuitbreaker.instances.google.sliding-window-size", () -> "4");
+		registry.add("resilience4j.circuitbreaker.instances.google.minimum-number-of-calls", () -> "4");
+		registry.add("resilience4j.circuitbreaker.instances.google.wait-duration-in-open-state",
+				() -> OPEN_STATE_WAIT.toMillis() + "ms");
+		registry.add("resilience4j.circuitbreaker.instances.google.permitted-number-of-calls-in-half-open-state", () -> "1");
+	}
+
+	@AfterAll
+	static void stopGoogle() {
+		GOOGLE.close();
+	}
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private SecurityProperties securityProperties;
+
+	@Autowired
+	private CircuitBreaker googleOAuth2CircuitBreaker;
+
+	@Autowired
+	private Bulkhead googleOAuth2Bulkhead;
+
+	@BeforeEach
+	void resetGoogle() {
+		GOOGLE.latency(Duration.ZERO).errors(0.0, 503);
+		googleOAuth2CircuitBreaker.reset();
+	}
+
+	@Test
+	void slowGoogleTimesOutWithServiceUnavailable() throws Exception {
+		GOOGLE.latency(CALL_TIMEOUT.multipliedBy(2));
+
+		signIn().andExpect(status().isServiceUnavailable());
+	}
+
+	@Test
+	void openCircuitRejectsWithoutCallingGoogle() throws Exception {
+		GOOGLE.errors(1.0, 500);
+		for (int i = 0; i < 4; i++) {
+			// Google 5xx는 서킷 브레이커 실패로 기록되며, 서킷이 열리기 전까지는 교환 실패(400)
+			signIn().andExpect(status().isBadRequest());
+		}
+		assertThat(googleOAuth2CircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		long tokenRequests = GOOGLE.tokenRequests();
+
+		signIn().andExpect(status().isServiceUnavailable());
+		assertThat(GOOGLE.tokenRequests()).isEqualTo(tokenRequests);
+	}
+
+	@Test
+	void halfOpenCircuitClosesAfterSuccessfulCall() throws Exception {
+		googleOAuth2CircuitBreaker.transitionToOpenState();
+		signIn().andExpect(status().isServiceUnavailable());
+
+		Thread.sleep(OPEN_STATE_WAIT.toMillis() + 300);
+		assertThat(googleOAuth2CircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+		signIn().andExpect(status().isOk());
+		assertThat(googleOAuth2CircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void fullBulkheadRejectsWithServiceUnavailable() throws Exception {
+		GOOGLE.latency(CALL_TIMEOUT.dividedBy(2));
+		CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> {
+			try {
+				return signIn().andReturn().getResponse().getStatus();
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		long deadline = System.currentTimeMillis() + 2_000;
+		while (googleOAuth2Bulkhead.getMetrics().getAvailableConcurrentCalls() > 0
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+
+		signIn().andExpect(status().isServiceUnavailable());
+		assertThat(first.get()).isEqualTo(200);
+	}
+
+	private ResultActions signIn() throws Exception {
+		String code = GOOGLE.issueCode("resilience-" + UUID.randomUUID() + "@example.com", "Resilience User");
+		return mockMvc.perform(post("/api/v1/auth/google/token")
+				.header("X-Gateway-Internal", securityProperties.getGatewayToken())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"code\":\"" + code + "\"}"));
+	}
+}
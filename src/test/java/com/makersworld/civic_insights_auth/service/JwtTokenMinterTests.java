@@ -0,0 +1,101 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.JwtKeyProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenMinterTests {
+
+	private JwtKeyProvider keyProvider;
+	private JwtTokenMinter minter;
+
+	@BeforeEach
+	void setUp() {
+		keyProvider = new JwtKeyProvider();
+		keyProvider.init();
+		minter = new JwtTokenMinter(keyProvider);
+	}
+
+	@Test
+	void accessTokenIsIdenticalToJjwtBuilderOutput() {
+		long now = System.currentTimeMillis();
+		long expiration = 86_400_000L;
+
+		String expected = Jwts.builder()
+				.claims(Map.of("role", "USER"))
+				.subject("user@example.com")
+				.issuedAt(new Date(now))
+				.expiration(new Date(now + expiration))
+				.signWith(keyProvider.getPrivateKey())
+				.compact();
+
+		assertThat(minter.mint("user@example.com", "USER", now, expiration)).isEqualTo(expected);
+	}
+
+	@Test
+	void refreshTokenIsIdenticalToJjwtBuilderOutput() {
+		long now = System.currentTimeMillis();
+		long expiration = 604_800_000L;
+
+		String expected = Jwts.builder()
+				.subject("user@example.com")
+				.issuedAt(new Date(now))
+				.expiration(new Date(now + expiration))
+				.signWith(keyProvider.getPrivateKey())
+				.compact();
+
+		assertThat(minter.mint("user@example.com", null, now, expiration)).isEqualTo(expected);
+	}
+
+	@Test
+	void mintedTokenIsVerifiedByJjwtParser() {
+		long now = System.currentTimeMillis();
+		String subject = "\"quoted\"\\사용자\u0001@example.com";
+
+		// 버퍼 재사용 이후에도 올바른 토큰이 나오는지 확인하기 위해 여러 번 발급
+		String token = null;
+		for (int i = 0; i < 3; i++) {
+			token = minter.mint(subject, "ADMIN", now, 60_000L);
+		}
+
+		Claims claims = Jwts.parser()
+				.verifyWith(keyProvider.getPublicKey())
+				.build()
+				.parseSignedClaims(token)
+				.getPayload();
+
+		assertThat(claims.getSubject()).isEqualTo(subject);
+		assertThat(claims.get("role", String.class)).isEqualTo("ADMIN");
+		assertThat(claims.getIssuedAt().getTime()).isEqualTo(now / 1000 * 1000);
+		assertThat(claims.getExpiration().getTime()).isEqualTo((now + 60_000L) / 1000 * 1000);
+	}
+
+	@Test
+	void hmacRefreshTokenCarriesKeyIdAndIsVerifiedByJjwtParser() {
+		long now = System.currentTimeMillis();
+		SecretKey key = Jwts.SIG.HS256.key().build();
+
+		String token = minter.mintHs256("rt-20000", key, "user@example.com", "USER", "사용자", 3,
+				now, 604_800_000L);
+
+		Jws<Claims> jws = Jwts.parser()
+				.verifyWith(key)
+				.build()
+				.parseSignedClaims(token);
+
+		assertThat(jws.getHeader().getAlgorithm()).isEqualTo("HS256");
+		assertThat(jws.getHeader().getKeyId()).isEqualTo("rt-20000");
+		assertThat(jws.getPayload().getSubject()).isEqualTo("user@example.com");
+		assertThat(jws.getPayload().get("name", String.class)).isEqualTo("사용자");
+		assertThat(jws.getPayload().get("ver", Integer.class)).isEqualTo(3);
+	}
+}
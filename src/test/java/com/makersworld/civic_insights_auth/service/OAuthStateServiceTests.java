@@ -0,0 +1,112 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.OAuthStateProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OAuthStateServiceTests {
+
+	private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+	private static final String CODE = "4/code";
+
+	private OAuthStateProperties properties;
+	private OAuthStateService service;
+
+	@BeforeEach
+	void setUp() {
+		properties = new OAuthStateProperties();
+		properties.setSecret(SECRET);
+		service = newInstance();
+	}
+
+	private OAuthStateService newInstance() {
+		OAuthStateService instance = new OAuthStateService(properties);
+		instance.init();
+		return instance;
+	}
+
+	@Test
+	void anyInstanceWithTheSameSecretCompletesTheLogin() throws Exception {
+		OAuthStateService.AuthorizationRequest request = service.begin();
+
+		String verifier = newInstance().complete(request.cookieValue(), request.state(), CODE);
+
+		byte[] digest = MessageDigest.getInstance("SHA-256").digest(verifier.getBytes(StandardCharsets.US_ASCII));
+		assertThat(Base64.getUrlEncoder().withoutPadding().encodeToString(digest)).isEqualTo(request.codeChallenge());
+	}
+
+	@Test
+	void rejectsMismatchedState() {
+		OAuthStateService.AuthorizationRequest request = service.begin();
+		OAuthStateService.AuthorizationRequest other = service.begin();
+
+		assertThatThrownBy(() -> service.complete(request.cookieValue(), other.state(), CODE))
+				.isInstanceOf(InvalidOAuthStateException.class);
+	}
+
+	@Test
+	void rejectsTamperedCookie() {
+		OAuthStateService.AuthorizationRequest request = service.begin();
+		byte[] raw = Base64.getUrlDecoder().decode(request.cookieValue());
+		raw[raw.length - 1] ^= 1;
+		String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+
+		assertThatThrownBy(() -> service.complete(tampered, request.state(), CODE))
+				.isInstanceOf(InvalidOAuthStateException.class);
+	}
+
+	@Test
+	void rejectsCookieFromAnotherSecret() {
+		OAuthStateService.AuthorizationRequest request = service.begin();
+		properties.setSecret(null);
+
+		assertThatThrownBy(() -> newInstance().complete(request.cookieValue(), request.state(), CODE))
+				.isInstanceOf(InvalidOAuthStateException.class);
+	}
+
+	@Test
+	void failsFastWithoutSecretWhenRequired() {
+		properties.setSecret(" ");
+		properties.setSecretRequired(true);
+
+		assertThatThrownBy(this::newInstance)
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("app.oauth2.state.secret");
+	}
+
+	@Test
+	void allowsDuplicateCallbackWithTheSameCode() {
+		OAuthStateService.AuthorizationRequest request = service.begin();
+		String first = service.complete(request.cookieValue(), request.state(), CODE);
+
+		assertThat(service.complete(request.cookieValue(), request.state(), CODE)).isEqualTo(first);
+	}
+
+	@Test
+	void rejectsReplayWithAnotherCode() {
+		OAuthStateService.AuthorizationRequest request = service.begin();
+		service.complete(request.cookieValue(), request.state(), CODE);
+
+		assertThatThrownBy(() -> service.complete(request.cookieValue(), request.state(), "4/other-code"))
+				.isInstanceOf(InvalidOAuthStateException.class)
+				.hasMessageContaining("already used");
+	}
+
+	@Test
+	void rejectsExpiredState() {
+		properties.setTtl(Duration.ofMillis(-1));
+		OAuthStateService.AuthorizationRequest request = service.begin();
+
+		assertThatThrownBy(() -> service.complete(request.cookieValue(), request.state(), CODE))
+				.isInstanceOf(InvalidOAuthStateException.class)
+				.hasMessageContaining("expired");
+	}
+}
@@ -0,0 +1,69 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.dto.ProfileBatchResponse;
+import com.makersworld.civic_insights_auth.dto.PublicProfileDto;
+import com.makersworld.civic_insights_auth.model.User;
+import com.makersworld.civic_insights_auth.model.UserProfile;
+import com.makersworld.civic_insights_auth.repository.UserProfileRepository;
+import com.makersworld.civic_insights_auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("offline")
+@TestPropertySource(properties = "app.avatar.cache-enabled=false")
+class PublicProfileServiceTests {
+
+	@Autowired
+	private PublicProfileService publicProfileService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserProfileRepository userProfileRepository;
+
+	private User user;
+
+	@BeforeEach
+	void createUser() {
+		user = userRepository.save(User.builder()
+				.email("batch-" + UUID.randomUUID() + "@example.com")
+				.name("Batch User")
+				.provider("GOOGLE")
+				.role("USER")
+				.build());
+		userProfileRepository.save(UserProfile.builder().user(user).location("Seoul").build());
+	}
+
+	@Test
+	void matchesEmailsIgnoringCaseAndWhitespace() {
+		String requested = " " + user.getEmail().toUpperCase(Locale.ROOT) + " ";
+
+		ProfileBatchResponse response = publicProfileService.lookup(null, List.of(requested));
+
+		assertThat(response.getProfiles()).extracting(PublicProfileDto::getUserId).containsExactly(user.getId());
+		assertThat(response.getMissingEmails()).isEmpty();
+	}
+
+	@Test
+	void acceptsOmittedIdOrEmailList() {
+		ProfileBatchResponse byEmail = publicProfileService.lookup(null, List.of(user.getEmail()));
+		ProfileBatchResponse byId = publicProfileService.lookup(List.of(user.getId()), null);
+
+		assertThat(byEmail.getProfiles()).extracting(PublicProfileDto::getUserId).containsExactly(user.getId());
+		assertThat(byEmail.getMissingUserIds()).isEmpty();
+		assertThat(byId.getProfiles()).extracting(PublicProfileDto::getUserId).containsExactly(user.getId());
+		assertThat(byId.getMissingEmails()).isEmpty();
+	}
+}
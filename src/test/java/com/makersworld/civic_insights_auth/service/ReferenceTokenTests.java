@@ -0,0 +1,147 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.config.SecurityProperties;
+import com.makersworld.civic_insights_auth.dto.AuthResponse;
+import com.makersworld.civic_insights_auth.repository.ReferenceTokenRepository;
+import com.makersworld.civic_insights_auth.support.FakeGoogleOAuth2Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 참조 토큰 모드의 발급/교환 왕복, 만료 정리, 전체 로그아웃 후 폐기, 교환 경로의 게이트웨이 검증을 검증
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("offline")
+class ReferenceTokenTests {
+
+	private static final FakeGoogleOAuth2Server GOOGLE = FakeGoogleOAuth2Server.start();
+	private static final long EXPIRATION_MS = 3_000;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		registry.add("app.oauth2.google.authorization-uri", GOOGLE::authorizationUri);
+		registry.add("app.oauth2.google.token-uri", GOOGLE::tokenUri);
+		registry.add("app.oauth2.google.user-info-uri", GOOGLE::userInfoUri);
+		registry.add("app.avatar.cache-enabled", () -> "false");
+		registry.add("app.auth.reference-tokens.enabled", () -> "true");
+		registry.add("jwt.expiration-ms", () -> Long.toString(EXPIRATION_MS));
+		// 게이트웨이 전용 모드가 꺼져 있어도 교환 경로는 게이트웨이 검증을 해야 함
+		registry.add("app.security.gateway-only", () -> "false");
+	}
+
+	@AfterAll
+	static void stopGoogle() {
+		GOOGLE.close();
+	}
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private ReferenceTokenService referenceTokenService;
+
+	@Autowired
+	private ReferenceTokenRepository referenceTokenRepository;
+
+	@Autowired
+	private JwtService jwtService;
+
+	@Autowired
+	private SecurityProperties securityProperties;
+
+	@Test
+	void issuedHandleExchangesForSignedJwt() throws Exception {
+		String email = newEmail();
+		String handle = signIn(email).getAccessToken();
+
+		assertThat(handle).hasSize(32).doesNotContain(".");
+		mockMvc.perform(exchange(handle).header("X-Gateway-Internal", securityProperties.getGatewayToken()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.token_type").value("Bearer"))
+				.andExpect(header().string("Cache-Control", containsString("max-age=")));
+
+		ReferenceTokenService.Exchange first = referenceTokenService.exchange(handle);
+		ReferenceTokenService.Exchange second = referenceTokenService.exchange(handle);
+		assertThat(jwtService.extractEmail(first.accessToken())).isEqualTo(email);
+		assertThat(second.accessToken()).isEqualTo(first.accessToken());
+		assertThat(first.cacheMaxAge()).isLessThanOrEqualTo(first.expiresIn());
+	}
+
+	@Test
+	void expiredHandleIsRejectedAndSwept() throws Exception {
+		String email = newEmail();
+		String handle = signIn(email).getAccessToken();
+		referenceTokenService.flushPending();
+		assertThat(storedHandles(email)).isEqualTo(1);
+
+		Thread.sleep(EXPIRATION_MS + 500);
+
+		assertThat(referenceTokenService.exchange(handle)).isNull();
+		referenceTokenService.sweepExpired();
+		assertThat(storedHandles(email)).isZero();
+	}
+
+	@Test
+	void handlesAreRevokedByLogoutEverywhere() {
+		String email = newEmail();
+		String flushed = signIn(email).getAccessToken();
+		referenceTokenService.flushPending();
+		String pending = signIn(email).getAccessToken();
+		assertThat(referenceTokenService.exchange(flushed)).isNotNull();
+
+		authService.logoutEverywhere(email);
+		referenceTokenService.flushPending();
+
+		assertThat(referenceTokenService.exchange(flushed)).isNull();
+		assertThat(referenceTokenService.exchange(pending)).isNull();
+		assertThat(storedHandles(email)).isZero();
+	}
+
+	@Test
+	void exchangeRequiresGatewayHeaderEvenWhenGatewayOnlyIsOff() throws Exception {
+		String handle = signIn(newEmail()).getAccessToken();
+
+		mockMvc.perform(exchange(handle)).andExpect(status().isForbidden());
+		mockMvc.perform(exchange(handle).header("X-Gateway-Internal", "wrong")).andExpect(status().isForbidden());
+	}
+
+	private MockHttpServletRequestBuilder exchange(String handle) {
+		return post("/internal/v1/tokens/exchange")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"token\":\"" + handle + "\"}");
+	}
+
+	private long storedHandles(String email) {
+		return referenceTokenRepository.findAll().stream().filter(token -> token.getEmail().equals(email)).count();
+	}
+
+	private AuthResponse signIn(String email) {
+		return authService.signInWithGoogle(GOOGLE.issueCode(email, "Reference User"));
+	}
+
+	private static String newEmail() {
+		return "reference-" + UUID.randomUUID() + "@example.com";
+	}
+}
@@ -0,0 +1,105 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.dto.AuthResponse;
+import com.makersworld.civic_insights_auth.support.FakeGoogleOAuth2Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리프레시 토큰 자리에 다른 토큰을 넣거나 전체 로그아웃 후 재사용하는 경우 거부되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("offline")
+class RefreshTokenTests {
+
+	private static final FakeGoogleOAuth2Server GOOGLE = FakeGoogleOAuth2Server.start();
+
+	@DynamicPropertySource
+	static void googleEndpoints(DynamicPropertyRegistry registry) {
+		registry.add("app.oauth2.google.authorization-uri", GOOGLE::authorizationUri);
+		registry.add("app.oauth2.google.token-uri", GOOGLE::tokenUri);
+		registry.add("app.oauth2.google.user-info-uri", GOOGLE::userInfoUri);
+		registry.add("app.avatar.cache-enabled", () -> "false");
+	}
+
+	@AfterAll
+	static void stopGoogle() {
+		GOOGLE.close();
+	}
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private JwtService jwtService;
+
+	@Test
+	void refreshTokenIsRotated() {
+		AuthResponse signedIn = signIn(newEmail());
+
+		AuthResponse refreshed = authService.refreshToken(signedIn.getRefreshToken());
+
+		assertThat(refreshed.getEmail()).isEqualTo(signedIn.getEmail());
+		assertThat(refreshed.getRefreshToken()).isNotBlank();
+	}
+
+	@Test
+	void refreshTokenWithoutNameClaimIsAccepted() {
+		AuthResponse signedIn = signIn(newEmail());
+		// 이름이 없는 사용자의 리프레시 토큰에는 name 클레임이 생략됨
+		String withoutName = jwtService.generateRefreshToken(signedIn.getEmail(), "USER", null, 0);
+
+		AuthResponse refreshed = authService.refreshToken(withoutName);
+
+		assertThat(refreshed.getEmail()).isEqualTo(signedIn.getEmail());
+		assertThat(refreshed.getName()).isNull();
+	}
+
+	@Test
+	void accessTokenCannotBeExchangedForRefreshToken() {
+		AuthResponse signedIn = signIn(newEmail());
+
+		assertThatThrownBy(() -> authService.refreshToken(signedIn.getAccessToken()))
+				.hasMessage("Invalid refresh token");
+	}
+
+	@Test
+	void refreshParserOnlyAcceptsRefreshSigningKeys() {
+		AuthResponse signedIn = signIn(newEmail());
+		String serviceToken = jwtService.generateClientToken("batch", "profiles:read", System.currentTimeMillis() + 60_000);
+
+		assertThat(jwtService.parseVerifiedRefreshClaims(signedIn.getRefreshToken())).isNotNull();
+		assertThat(jwtService.parseVerifiedRefreshClaims(signedIn.getAccessToken())).isNull();
+		assertThat(jwtService.parseVerifiedRefreshClaims(serviceToken)).isNull();
+	}
+
+	@Test
+	void accessTokenCannotRefreshAfterLogoutEverywhere() {
+		AuthResponse signedIn = signIn(newEmail());
+
+		authService.logoutEverywhere(signedIn.getEmail());
+
+		assertThatThrownBy(() -> authService.refreshToken(signedIn.getRefreshToken()))
+				.hasMessage("Refresh token revoked");
+		assertThatThrownBy(() -> authService.refreshToken(signedIn.getAccessToken()))
+				.hasMessage("Invalid refresh token");
+	}
+
+	private AuthResponse signIn(String email) {
+		return authService.signInWithGoogle(GOOGLE.issueCode(email, "Refresh User"));
+	}
+
+	private static String newEmail() {
+		return "refresh-" + UUID.randomUUID() + "@example.com";
+	}
+}
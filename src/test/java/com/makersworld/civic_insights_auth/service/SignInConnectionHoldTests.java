@@ -0,0 +1,78 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.dto.AuthResponse;
+import com.makersworld.civic_insights_auth.support.FakeGoogleOAuth2Server;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 중 Google 호출이 느려도 DB 커넥션을 점유하지 않는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("offline")
+class SignInConnectionHoldTests {
+
+	private static final Duration GOOGLE_LATENCY = Duration.ofMillis(400);
+
+	private static final FakeGoogleOAuth2Server GOOGLE = FakeGoogleOAuth2Server.start().latency(GOOGLE_LATENCY);
+
+	@DynamicPropertySource
+	static void googleEndpoints(DynamicPropertyRegistry registry) {
+		registry.add("app.oauth2.google.authorization-uri", GOOGLE::authorizationUri);
+		registry.add("app.oauth2.google.token-uri", GOOGLE::tokenUri);
+		registry.add("app.oauth2.google.user-info-uri", GOOGLE::userInfoUri);
+		registry.add("app.avatar.cache-enabled", () -> "false");
+	}
+
+	@AfterAll
+	static void stopGoogle() {
+		GOOGLE.close();
+	}
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private HikariDataSource dataSource;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void slowGoogleDoesNotHoldConnection() throws Exception {
+		String code = GOOGLE.issueCode("hold-" + UUID.randomUUID() + "@example.com", "Hold User");
+		long recordedBefore = holdTimer() == null ? 0 : holdTimer().count();
+
+		CompletableFuture<AuthResponse> signIn = CompletableFuture.supplyAsync(() -> authService.signInWithGoogle(code));
+		// 토큰 교환 응답을 기다리는 중: 커넥션을 빌린 상태가 아니어야 함
+		Thread.sleep(GOOGLE_LATENCY.toMillis() / 2);
+		int activeDuringGoogleCall = dataSource.getHikariPoolMXBean().getActiveConnections();
+		AuthResponse response = signIn.get(10, TimeUnit.SECONDS);
+
+		assertThat(response.getAccessToken()).isNotBlank();
+		assertThat(activeDuringGoogleCall).isZero();
+		Timer hold = holdTimer();
+		assertThat(hold.count()).isEqualTo(recordedBefore + 1);
+		// Google 호출 두 번(각 400ms)은 커넥션 점유 시간에 포함되지 않음
+		assertThat(hold.max(TimeUnit.MILLISECONDS)).isLessThan(GOOGLE_LATENCY.toMillis());
+	}
+
+	private Timer holdTimer() {
+		return meterRegistry.find("auth.signin.connection.hold").timer();
+	}
+}
@@ -0,0 +1,132 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.dto.AuthResponse;
+import com.makersworld.civic_insights_auth.dto.ProfileBatchResponse;
+import com.makersworld.civic_insights_auth.dto.PublicProfileDto;
+import com.makersworld.civic_insights_auth.dto.UpdateProfileRequest;
+import com.makersworld.civic_insights_auth.support.FakeGoogleOAuth2Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.makersworld.civic_insights_auth.support.SqlStatementCounter.expectStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주요 경로의 요청당 SQL 문 수 회귀 테스트 (N+1 및 불필요한 조회 추가 방지)
+ */
+@SpringBootTest
+@ActiveProfiles("offline")
+class SqlStatementCountTests {
+
+	private static final FakeGoogleOAuth2Server GOOGLE = FakeGoogleOAuth2Server.start();
+
+	@DynamicPropertySource
+	static void googleEndpoints(DynamicPropertyRegistry registry) {
+		registry.add("app.oauth2.google.authorization-uri", GOOGLE::authorizationUri);
+		registry.add("app.oauth2.google.token-uri", GOOGLE::tokenUri);
+		registry.add("app.oauth2.google.user-info-uri", GOOGLE::userInfoUri);
+		registry.add("app.avatar.cache-enabled", () -> "false");
+	}
+
+	@AfterAll
+	static void stopGoogle() {
+		GOOGLE.close();
+	}
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private UserProfileService userProfileService;
+
+	@Autowired
+	private PublicProfileService publicProfileService;
+
+	@Autowired
+	private TokenVersionRegistry tokenVersionRegistry;
+
+	@Test
+	void firstSignInSelectsOnceAndInsertsUserAndProfile() {
+		String code = GOOGLE.issueCode(newEmail(), "New User");
+
+		expectStatements(3, () -> authService.signInWithGoogle(code));
+	}
+
+	@Test
+	void repeatSignInOnlyReadsUser() {
+		String email = newEmail();
+		signIn(email);
+		String code = GOOGLE.issueCode(email, "New User");
+
+		expectStatements(1, () -> authService.signInWithGoogle(code));
+	}
+
+	@Test
+	void refreshWithinCacheTtlDoesNotQuery() {
+		AuthResponse signedIn = signIn(newEmail());
+
+		expectStatements(0, () -> authService.refreshToken(signedIn.getRefreshToken()));
+	}
+
+	@Test
+	void refreshAfterCacheExpiryReadsOnlyTokenVersion() {
+		String email = newEmail();
+		AuthResponse signedIn = signIn(email);
+		// 일반적인 갱신(액세스 토큰 만료 후)은 캐시 TTL이 지난 상태이므로 항목이 없는 경우와 같음
+		tokenVersionRegistry.invalidateAfterCommit(email);
+
+		expectStatements(1, () -> authService.refreshToken(signedIn.getRefreshToken()));
+	}
+
+	@Test
+	void getProfileReadsUserAndProfile() {
+		String email = newEmail();
+		signIn(email);
+
+		expectStatements(2, () -> userProfileService.getUserProfile(email));
+	}
+
+	@Test
+	void updateProfileReadsThenUpdatesOnce() {
+		String email = newEmail();
+		signIn(email);
+		UpdateProfileRequest request = new UpdateProfileRequest();
+		request.setBio("bio");
+		request.setLocation("Seoul");
+
+		expectStatements(3, () -> userProfileService.updateUserProfile(email, request));
+	}
+
+	@Test
+	void batchProfileLookupIsOneJoinQueryThenCached() {
+		List<String> emails = List.of(newEmail(), newEmail(), newEmail());
+		emails.forEach(this::signIn);
+		String unknown = newEmail();
+		List<String> requested = List.of(emails.get(2), unknown, emails.get(0), emails.get(1));
+
+		ProfileBatchResponse first = expectStatements(1, () -> publicProfileService.lookup(null, requested));
+		ProfileBatchResponse second = expectStatements(0, () -> publicProfileService.lookup(null, requested));
+
+		assertThat(first.getMissingEmails()).containsExactly(unknown);
+		assertThat(second).isEqualTo(first);
+		// ID로 다시 조회해도 이메일 조회 때 채워진 캐시를 사용
+		List<Long> ids = first.getProfiles().stream().map(PublicProfileDto::getUserId).toList();
+		expectStatements(0, () -> publicProfileService.lookup(ids, null));
+	}
+
+	private AuthResponse signIn(String email) {
+		return authService.signInWithGoogle(GOOGLE.issueCode(email, "New User"));
+	}
+
+	private static String newEmail() {
+		return "sql-" + UUID.randomUUID() + "@example.com";
+	}
+}
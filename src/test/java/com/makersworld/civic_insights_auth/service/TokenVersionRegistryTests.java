@@ -0,0 +1,55 @@
+package com.makersworld.civic_insights_auth.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리프레시 경로의 보안 버전 조회가 복제본으로 라우팅되는지 검증
+ *
+ * 복제본은 별도의 H2 DB로, 프라이머리에 없는 사용자의 버전을 담아 두고
+ * 레지스트리가 그 값을 반환하는지(= 복제본 조회 키가 선택되었는지) 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("offline")
+@TestPropertySource(properties = {
+		"app.datasource.routing.enabled=true",
+		"app.datasource.routing.replicas[0].name=replica-test",
+		"app.datasource.routing.replicas[0].url=" + TokenVersionRegistryTests.REPLICA_URL,
+		"app.datasource.routing.replicas[0].maximum-pool-size=2",
+		"app.directory.rebuild-on-startup=false",
+		"app.avatar.cache-enabled=false"
+})
+class TokenVersionRegistryTests {
+
+	static final String REPLICA_URL = "jdbc:h2:mem:token_version_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+	private static final String REPLICA_ONLY_EMAIL = "replica-only@example.com";
+
+	@Autowired
+	private TokenVersionRegistry tokenVersionRegistry;
+
+	@BeforeAll
+	static void seedReplica() throws Exception {
+		try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+			 Statement statement = connection.createStatement()) {
+			statement.execute("create table if not exists users (id bigint auto_increment primary key, "
+					+ "email varchar(255) not null, token_version int not null)");
+			statement.execute("insert into users (email, token_version) values ('" + REPLICA_ONLY_EMAIL + "', 7)");
+		}
+	}
+
+	@Test
+	void versionLookupReadsFromReplica() {
+		assertThat(tokenVersionRegistry.currentVersion(REPLICA_ONLY_EMAIL)).isEqualTo(7);
+	}
+}
@@ -0,0 +1,78 @@
+package com.makersworld.civic_insights_auth.service;
+
+import com.makersworld.civic_insights_auth.dto.UserDirectoryEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserDirectoryIndexTests {
+
+	private UserDirectoryIndex index;
+
+	@BeforeEach
+	void buildIndex() {
+		index = new UserDirectoryIndex(256);
+		index.put(new UserDirectoryEntry(1L, "kim.minji@example.com", "Kim Minji", "Seoul", "Civic data volunteer"));
+		index.put(new UserDirectoryEntry(2L, "lee@example.com", "Lee Seojun", "Busan", "Loves seoul food"));
+		index.put(new UserDirectoryEntry(3L, "park@example.com", "Seoul Park", null, null));
+		index.put(new UserDirectoryEntry(4L, "minji.choi@example.com", "Choi", "Incheon", null));
+	}
+
+	@Test
+	void ranksNameAboveLocationAboveBio() {
+		assertThat(userIds(index.search("seoul", 0, 10))).containsExactly(3L, 1L, 2L);
+	}
+
+	@Test
+	void matchesSubstringsInsideWordsButNotInsideEmails() {
+		// 4번 사용자는 이메일(minji.choi@)에만 "inj"가 있으므로 제외
+		assertThat(userIds(index.search("inj", 0, 10))).containsExactly(1L);
+	}
+
+	@Test
+	void matchesEmailOnlyByPrefix() {
+		assertThat(userIds(index.search("minji.", 0, 10))).containsExactly(4L);
+		assertThat(index.search("example.com", 0, 10).total()).isZero();
+	}
+
+	@Test
+	void updateReplacesOldTerms() {
+		index.put(new UserDirectoryEntry(4L, "minji.choi@example.com", "Choi", "Daegu", "Seoul born"));
+
+		assertThat(index.search("incheon", 0, 10).total()).isZero();
+		assertThat(userIds(index.search("daegu", 0, 10))).containsExactly(4L);
+		assertThat(index.search("seoul", 0, 10).total()).isEqualTo(4);
+	}
+
+	@Test
+	void putUnlessKeepsEntryWhenSkipped() {
+		index.putUnless(new UserDirectoryEntry(4L, "minji.choi@example.com", "Choi", "Daegu", null), userId -> userId == 4L);
+		index.putUnless(new UserDirectoryEntry(5L, "new@example.com", "Newcomer", "Daegu", null), userId -> userId == 4L);
+
+		assertThat(index.get(4L)).get().extracting(UserDirectoryEntry::location).isEqualTo("Incheon");
+		assertThat(userIds(index.search("daegu", 0, 10))).containsExactly(5L);
+	}
+
+	@Test
+	void pagesThroughRankedResults() {
+		UserDirectoryIndex.SearchResult firstPage = index.search("seoul", 0, 2);
+		UserDirectoryIndex.SearchResult secondPage = index.search("seoul", 2, 2);
+
+		assertThat(firstPage.total()).isEqualTo(3);
+		assertThat(userIds(firstPage)).containsExactly(3L, 1L);
+		assertThat(userIds(secondPage)).containsExactly(2L);
+	}
+
+	@Test
+	void rejectsSingleCharacterQuery() {
+		assertThatThrownBy(() -> index.search("k", 0, 10)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static List<Long> userIds(UserDirectoryIndex.SearchResult result) {
+		return result.hits().stream().map(hit -> hit.entry().userId()).toList();
+	}
+}
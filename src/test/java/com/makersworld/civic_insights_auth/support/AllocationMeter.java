@@ -0,0 +1,45 @@
+package com.makersworld.civic_insights_auth.support;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 현재 스레드에서 작업 1회당 할당한 바이트 수를 측정하는 도우미
+ *
+ * JIT 컴파일(이스케이프 분석 포함)이 안정되도록 먼저 warmup 회 실행한 뒤,
+ * iterations 회 실행하는 동안의 스레드 할당량(ThreadMXBean)을 평균냅니다.
+ */
+public final class AllocationMeter {
+
+	private static final com.sun.management.ThreadMXBean THREADS =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	private AllocationMeter() {
+	}
+
+	/**
+	 * 측정 대상 작업 (검사 예외 허용)
+	 */
+	@FunctionalInterface
+	public interface Operation {
+		void run() throws Exception;
+	}
+
+	/**
+	 * 작업 1회당 평균 할당 바이트 수를 반환합니다.
+	 */
+	public static long bytesPerOperation(int warmup, int iterations, Operation operation) throws Exception {
+		if (!THREADS.isThreadAllocatedMemorySupported()) {
+			throw new IllegalStateException("Thread allocation measurement is not supported by this JVM");
+		}
+		THREADS.setThreadAllocatedMemoryEnabled(true);
+		for (int i = 0; i < warmup; i++) {
+			operation.run();
+		}
+		long before = THREADS.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < iterations; i++) {
+			operation.run();
+		}
+		long after = THREADS.getCurrentThreadAllocatedBytes();
+		return (after - before) / iterations;
+	}
+}
@@ -0,0 +1,53 @@
+package com.makersworld.civic_insights_auth.support;
+
+import com.makersworld.civic_insights_auth.config.SqlStatementStats;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트에서 작업이 실행한 JDBC 문 수를 측정/검증하는 도우미
+ *
+ * <pre>
+ * AuthResponse response = SqlStatementCounter.expectStatements(2, () -> authService.signInWithGoogle(code));
+ * </pre>
+ */
+public final class SqlStatementCounter {
+
+	private SqlStatementCounter() {
+	}
+
+	/**
+	 * 작업을 실행하고 현재 스레드에서 실행된 JDBC 문 수가 정확히 expected인지 검증합니다.
+	 * @return 작업의 반환값
+	 */
+	public static <T> T expectStatements(int expected, Supplier<T> action) {
+		SqlStatementStats.begin();
+		T result;
+		SqlStatementStats.Snapshot stats;
+		try {
+			result = action.get();
+		} finally {
+			stats = SqlStatementStats.end();
+		}
+		assertThat(stats.statements())
+				.as("JDBC statements executed")
+				.isEqualTo(expected);
+		return result;
+	}
+
+	/**
+	 * 작업을 실행하고 현재 스레드에서 실행된 JDBC 문 수/시간을 반환합니다.
+	 */
+	public static SqlStatementStats.Snapshot measure(Runnable action) {
+		SqlStatementStats.begin();
+		try {
+			action.run();
+		} catch (RuntimeException e) {
+			SqlStatementStats.end();
+			throw e;
+		}
+		return SqlStatementStats.end();
+	}
+}
@@ -0,0 +1,274 @@
+package com.makersworld.civic_insights_auth.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오프라인 테스트/부하 테스트용 가짜 Google OAuth2 프로바이더
+ *
+ * 실제 Google과 동일한 형태로 인가 코드 발급, 코드-토큰 교환, 사용자 정보 조회를 제공합니다.
+ * 인가 코드는 Google과 마찬가지로 1회용이며, 응답 지연과 오류 주입을 설정할 수 있습니다.
+ *
+ * <pre>
+ * FakeGoogleOAuth2Server google = FakeGoogleOAuth2Server.start();
+ * String code = google.issueCode("user@example.com", "User");
+ * // app.oauth2.google.token-uri = google.tokenUri() ...
+ * </pre>
+ */
+public class FakeGoogleOAuth2Server implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    // 인가 코드 -> 사용자, 액세스 토큰 -> 사용자
+    private final Map<String, FakeUser> codes = new ConcurrentHashMap<>();
+    private final Map<String, FakeUser> accessTokens = new ConcurrentHashMap<>();
+    // 인가 코드 -> PKCE S256 코드 챌린지 (인가 요청에 챌린지가 있었던 코드만)
+    private final Map<String, String> codeChallenges = new ConcurrentHashMap<>();
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile double errorRate = 0.0;
+    private volatile int errorStatus = 503;
+
+    private final AtomicLong tokenRequests = new AtomicLong();
+    private final AtomicLong userInfoRequests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    private FakeGoogleOAuth2Server(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * 임의의 로컬 포트에서 서버를 시작합니다.
+     */
+    public static FakeGoogleOAuth2Server start() {
+        return start(0);
+    }
+
+    /**
+     * 지정된 로컬 포트에서 서버를 시작합니다. (0이면 임의 포트)
+     */
+    public static FakeGoogleOAuth2Server start(int port) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 512);
+            ExecutorService executor = Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "fake-google");
+                t.setDaemon(true);
+                return t;
+            });
+            FakeGoogleOAuth2Server fake = new FakeGoogleOAuth2Server(server, executor);
+            server.createContext("/o/oauth2/v2/auth", fake::handleAuthorize);
+            server.createContext("/token", fake::handleToken);
+            server.createContext("/oauth2/v2/userinfo", fake::handleUserInfo);
+            server.setExecutor(executor);
+            server.start();
+            return fake;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start fake Google OAuth2 server", e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public String authorizationUri() {
+        return baseUrl() + "/o/oauth2/v2/auth";
+    }
+
+    public String tokenUri() {
+        return baseUrl() + "/token";
+    }
+
+    public String userInfoUri() {
+        return baseUrl() + "/oauth2/v2/userinfo";
+    }
+
+    /**
+     * 지정된 사용자로 1회용 인가 코드를 발급합니다.
+     */
+    public String issueCode(String email, String name) {
+        String code = "4/fake-" + UUID.randomUUID();
+        codes.put(code, new FakeUser(Long.toString(Math.abs(email.hashCode())), email, name,
+                "https://lh3.googleusercontent.com/a/fake-" + Math.abs(email.hashCode())));
+        return code;
+    }
+
+    /**
+     * 모든 응답에 적용할 지연 시간을 설정합니다.
+     */
+    public FakeGoogleOAuth2Server latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * 지정된 비율(0.0~1.0)의 요청을 주어진 HTTP 상태로 실패시킵니다.
+     */
+    public FakeGoogleOAuth2Server errors(double errorRate, int errorStatus) {
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        return this;
+    }
+
+    public long tokenRequests() {
+        return tokenRequests.get();
+    }
+
+    public long userInfoRequests() {
+        return userInfoRequests.get();
+    }
+
+    public long injectedErrors() {
+        return injectedErrors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // 브라우저 흐름: 동의 화면 없이 즉시 redirect_uri로 코드와 state를 돌려줌
+    private void handleAuthorize(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseForm(exchange.getRequestURI().getRawQuery());
+        String redirectUri = query.get("redirect_uri");
+        if (redirectUri == null) {
+            respond(exchange, 400, "{\"error\":\"invalid_request\"}");
+            return;
+        }
+        String email = "user-" + UUID.randomUUID() + "@example.com";
+        String code = issueCode(email, "Fake User");
+        if (query.containsKey("code_challenge")) {
+            codeChallenges.put(code, query.get("code_challenge"));
+        }
+        String location = redirectUri + (redirectUri.contains("?") ? "&" : "?")
+                + "code=" + URLEncoder.encode(code, StandardCharsets.UTF_8);
+        if (query.containsKey("state")) {
+            location += "&state=" + URLEncoder.encode(query.get("state"), StandardCharsets.UTF_8);
+        }
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        tokenRequests.incrementAndGet();
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "{\"error\":\"method_not_allowed\"}");
+            return;
+        }
+        if (delayAndMaybeFail(exchange)) {
+            return;
+        }
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        Map<String, String> form = parseForm(body);
+        // Google과 마찬가지로 코드는 1회만 교환 가능
+        FakeUser user = form.get("code") == null ? null : codes.remove(form.get("code"));
+        String challenge = form.get("code") == null ? null : codeChallenges.remove(form.get("code"));
+        if (user == null || !"authorization_code".equals(form.get("grant_type"))
+                || (challenge != null && !challenge.equals(s256(form.get("code_verifier"))))) {
+            respond(exchange, 400, "{\"error\":\"invalid_grant\",\"error_description\":\"Bad Request\"}");
+            return;
+        }
+        String accessToken = "ya29.fake-" + UUID.randomUUID();
+        accessTokens.put(accessToken, user);
+        respond(exchange, 200, "{\"access_token\":\"" + accessToken + "\",\"expires_in\":3599,"
+                + "\"scope\":\"openid profile email\",\"token_type\":\"Bearer\"}");
+    }
+
+    private void handleUserInfo(HttpExchange exchange) throws IOException {
+        userInfoRequests.incrementAndGet();
+        if (delayAndMaybeFail(exchange)) {
+            return;
+        }
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        FakeUser user = authorization != null && authorization.startsWith("Bearer ")
+                ? accessTokens.get(authorization.substring(7)) : null;
+        if (user == null) {
+            respond(exchange, 401, "{\"error\":{\"code\":401,\"status\":\"UNAUTHENTICATED\"}}");
+            return;
+        }
+        respond(exchange, 200, "{\"id\":\"" + user.id() + "\",\"email\":\"" + user.email() + "\","
+                + "\"verified_email\":true,\"name\":\"" + user.name() + "\","
+                + "\"given_name\":\"" + user.name() + "\",\"picture\":\"" + user.picture() + "\","
+                + "\"locale\":\"ko\"}");
+    }
+
+    // 설정된 지연을 적용하고, 오류 주입 대상이면 오류 응답을 보낸 뒤 true를 반환
+    private boolean delayAndMaybeFail(HttpExchange exchange) throws IOException {
+        Duration delay = latency;
+        if (!delay.isZero()) {
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.incrementAndGet();
+            respond(exchange, errorStatus, "{\"error\":\"injected_failure\"}");
+            return true;
+        }
+        return false;
+    }
+
+    private static String s256(String verifier) {
+        if (verifier == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(verifier.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseForm(String raw) {
+        Map<String, String> result = new HashMap<>();
+        if (raw == null || raw.isEmpty()) {
+            return result;
+        }
+        for (String pair : raw.split("&")) {
+            int idx = pair.indexOf('=');
+            if (idx > 0) {
+                result.put(URLDecoder.decode(pair.substring(0, idx), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(idx + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+
+    private record FakeUser(String id, String email, String name, String picture) {
+    }
+}